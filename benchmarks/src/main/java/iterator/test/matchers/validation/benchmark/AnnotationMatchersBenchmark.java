@@ -0,0 +1,79 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation.benchmark;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasMaxAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNotNullAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasSizeAnnotation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnotationMatchersBenchmark {
+
+  @Param({"small", "wide", "nested"})
+  public String shape;
+
+  private Class<?> type;
+
+  @Setup
+  public void setUp() {
+    switch (shape) {
+      case "small":
+        type = SmallBean.class;
+        break;
+      case "wide":
+        type = WideBean.class;
+        break;
+      case "nested":
+        type = NestedBean.class;
+        break;
+      default:
+        throw new IllegalArgumentException(shape);
+    }
+  }
+
+  @Benchmark
+  public boolean hasNotNullAnnotationWithDefaults() {
+    return hasNotNullAnnotation("name").matches(type);
+  }
+
+  @Benchmark
+  public boolean hasSizeAnnotationWithMax() {
+    return hasSizeAnnotation("name", 0, 32).matches(type);
+  }
+
+  @Benchmark
+  public boolean hasMaxAnnotationOnAge() {
+    return hasMaxAnnotation("age", 150).matches(type);
+  }
+}
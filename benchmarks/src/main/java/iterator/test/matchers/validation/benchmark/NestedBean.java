@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class NestedBean {
+
+  @NotNull
+  @Size(max = 32)
+  private final String name;
+
+  @NotNull
+  @Max(150)
+  private Integer age = 42;
+
+  @Valid private final NestedBean child;
+
+  @Valid private final List<SmallBean> leaves = new ArrayList<>();
+
+  public NestedBean(String name, int depth, int leaves) {
+    this.name = name;
+    this.child = depth > 1 ? new NestedBean("child", depth - 1, leaves) : null;
+    for (int i = 0; i < leaves; i++) {
+      this.leaves.add(new SmallBean("leaf", i));
+    }
+  }
+}
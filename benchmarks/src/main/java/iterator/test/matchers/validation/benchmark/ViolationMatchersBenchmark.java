@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation.benchmark;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasViolations;
+
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViolationMatchersBenchmark {
+
+  private static final String FIELD = "name";
+
+  @Param({"small", "wide", "nested"})
+  public String shape;
+
+  private Object valid;
+
+  private Object invalid;
+
+  @Setup
+  public void setUp() {
+    valid = bean(shape, "valid");
+    invalid = bean(shape, null);
+  }
+
+  @Benchmark
+  public boolean hasNoViolationsOnBean() {
+    return hasNoViolations().matches(valid);
+  }
+
+  @Benchmark
+  public boolean hasNoViolationsOnField() {
+    return hasNoViolations(FIELD).matches(valid);
+  }
+
+  @Benchmark
+  public boolean hasViolationsOnField() {
+    return hasViolations(FIELD, NotNullValidator.class).matches(invalid);
+  }
+
+  private static Object bean(String shape, String name) {
+    switch (shape) {
+      case "small":
+        return new SmallBean(name, 42);
+      case "wide":
+        return new WideBean(name);
+      case "nested":
+        return new NestedBean(name, 8, 10);
+      default:
+        throw new IllegalArgumentException(shape);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation.benchmark;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class WideBean {
+
+  @NotNull
+  @Size(max = 32)
+  private final String name;
+
+  @NotNull
+  @Max(150)
+  private Integer age = 42;
+
+  @NotNull
+  @Size(max = 32)
+  private String field01 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field02 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field03 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field04 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field05 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field06 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field07 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field08 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field09 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field10 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field11 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field12 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field13 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field14 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field15 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field16 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field17 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field18 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field19 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field20 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field21 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field22 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field23 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field24 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field25 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field26 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field27 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field28 = "value";
+
+  @NotNull
+  @Size(max = 32)
+  private String field29 = "value";
+
+  public WideBean(String name) {
+    this.name = name;
+  }
+}
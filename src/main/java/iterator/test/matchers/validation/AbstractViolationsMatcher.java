@@ -15,36 +15,66 @@
  */
 package iterator.test.matchers.validation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 import javax.validation.ConstraintValidator;
-import javax.validation.Validation;
+import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 
 public abstract class AbstractViolationsMatcher<T> extends TypeSafeMatcher<T> {
 
-  private final Validator v;
+  protected final Optional<String> f;
 
-  private List<Class<? extends ConstraintValidator>> actualViolations;
+  private final boolean simpleProperty;
 
-  protected final Optional<String> f;
+  private final PathPattern pattern;
+
+  private final Class<?>[] groups;
+
+  private final List<Class<?>> groupsKey;
 
   protected AbstractViolationsMatcher() {
     this(null);
   }
 
   protected AbstractViolationsMatcher(String field) {
-    v = Validation.buildDefaultValidatorFactory().getValidator();
+    this(field, new Class<?>[0]);
+  }
+
+  protected AbstractViolationsMatcher(String field, Class<?>... groups) {
     f = Optional.ofNullable(field);
+    simpleProperty = field != null && isSimpleProperty(field);
+    pattern = field == null || simpleProperty ? null : PathPattern.compile(field);
+    this.groups = groups.clone();
+    groupsKey = Collections.unmodifiableList(Arrays.asList(this.groups));
   }
 
   @Override
   public final void describeTo(Description description) {
     describeGenerally(description);
     maybeDescribeField(description);
+    maybeDescribeGroups(description);
+  }
+
+  private void maybeDescribeGroups(Description description) {
+    if (groups.length > 0) {
+      description.appendText(" in groups ").appendText(groupNames().toString());
+    }
+  }
+
+  private List<String> groupNames() {
+    List<String> names = new ArrayList<>(groups.length);
+    for (Class<?> group : groups) {
+      names.add(group.getSimpleName());
+    }
+    return names;
   }
 
   private void maybeDescribeField(Description description) {
@@ -59,6 +89,13 @@ public abstract class AbstractViolationsMatcher<T> extends TypeSafeMatcher<T> {
 
   @Override
   protected final void describeMismatchSafely(T item, Description mismatchDescription) {
+    describeMismatch(item, mismatchDescription, actualViolations(item));
+  }
+
+  final void describeMismatch(
+      T item,
+      Description mismatchDescription,
+      List<Class<? extends ConstraintValidator>> actualViolations) {
     describeMismatchGenerally(item, mismatchDescription, actualViolations);
     maybeDescribeField(mismatchDescription);
   }
@@ -70,15 +107,86 @@ public abstract class AbstractViolationsMatcher<T> extends TypeSafeMatcher<T> {
 
   @Override
   protected final boolean matchesSafely(T item) {
-    actualViolations =
-        v.validate(item).stream()
-            .filter(
-                violation ->
-                    f.map(n -> n.equals(violation.getPropertyPath().toString())).orElse(true))
-            .map(violation -> violation.getConstraintDescriptor().getConstraintValidatorClasses())
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
-    return matches(actualViolations);
+    return matches(actualViolations(item, failsFast()));
+  }
+
+  List<Class<? extends ConstraintValidator>> actualViolations(T item) {
+    return actualViolations(item, false);
+  }
+
+  boolean failsFast() {
+    return false;
+  }
+
+  private List<Class<? extends ConstraintValidator>> actualViolations(T item, boolean failFast) {
+    Set<ConstraintViolation<T>> violations = validate(item, failFast);
+    return pattern == null
+        ? new ViolatedConstraints(violations, f.orElse(null))
+        : new ViolatedConstraints(violations, pattern);
+  }
+
+  private Set<ConstraintViolation<T>> validate(T item, boolean failFast) {
+    if (ValidationResultCache.accepts(item)) {
+      // a cached result serves matchers on any field, fail fast or not, so it must be complete
+      return ValidationResultCache.get(
+          item, groupsKey, () -> measured(item, () -> validateAll(item)));
+    }
+    return measured(item, () -> validateUninstrumented(item, failFast));
+  }
+
+  private static <T> Set<ConstraintViolation<T>> measured(
+      T item, Supplier<Set<ConstraintViolation<T>>> validation) {
+    if (!ValidationMetrics.isEnabled()) {
+      return validation.get();
+    }
+    long start = System.nanoTime();
+    Set<ConstraintViolation<T>> violations = validation.get();
+    ValidationMetrics.recordValidation(
+        item.getClass(), System.nanoTime() - start, violations.size());
+    return violations;
+  }
+
+  private Set<ConstraintViolation<T>> validateAll(T item) {
+    if (!metadataOf(item).isConstrained()) {
+      return Collections.emptySet();
+    }
+    return ValidatorFactoryHolder.getValidator().validate(item, groups);
+  }
+
+  private Set<ConstraintViolation<T>> validateUninstrumented(T item, boolean failFast) {
+    ConstraintMetadata.Groups metadata = metadataOf(item);
+    if (!metadata.isConstrained()) {
+      return Collections.emptySet();
+    }
+    if (!f.isPresent()) {
+      return validator(failFast).validate(item, groups);
+    }
+    String property = f.get();
+    if (!simpleProperty || metadata.hasClassLevelConstraints()) {
+      // class level constraints may report violations against any property, and violations are
+      // filtered by path afterwards so validation must not stop early
+      return ValidatorFactoryHolder.getValidator().validate(item, groups);
+    }
+    if (!metadata.isConstrained(property)) {
+      return Collections.emptySet();
+    }
+    return validator(failFast).validateProperty(item, property, groups);
+  }
+
+  private ConstraintMetadata.Groups metadataOf(T item) {
+    return ValidatorFactoryHolder.getConstraintMetadata(item.getClass()).forGroups(groupsKey);
+  }
+
+  private static Validator validator(boolean failFast) {
+    return failFast
+        ? ValidatorFactoryHolder.getFailFastValidator()
+        : ValidatorFactoryHolder.getValidator();
+  }
+
+  private static boolean isSimpleProperty(String field) {
+    return !field.isEmpty()
+        && Character.isJavaIdentifierStart(field.charAt(0))
+        && field.chars().allMatch(Character::isJavaIdentifierPart);
   }
 
   protected abstract boolean matches(List<Class<? extends ConstraintValidator>> actualViolations);
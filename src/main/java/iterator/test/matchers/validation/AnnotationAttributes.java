@@ -0,0 +1,122 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+final class AnnotationAttributes {
+
+  private static final MethodType ACCESSOR_TYPE =
+      MethodType.methodType(Object.class, Annotation.class);
+
+  // resolved once per annotation type; invokeExact on a cached handle skips the access and
+  // argument checks that Method.invoke repeats for every annotation compared
+  private static final ClassValue<Map<String, Attribute>> ATTRIBUTES =
+      new ClassValue<Map<String, Attribute>>() {
+        @Override
+        protected Map<String, Attribute> computeValue(Class<?> annotationType) {
+          return attributes(annotationType);
+        }
+      };
+
+  // sorted by name, so expectations built from them describe attributes in a stable order
+  static Map<String, Attribute> of(Class<? extends Annotation> annotationType) {
+    return ATTRIBUTES.get(annotationType);
+  }
+
+  static MethodHandle accessor(Class<? extends Annotation> annotationType, String name) {
+    return attribute(annotationType, name).accessor;
+  }
+
+  static Attribute attribute(Class<? extends Annotation> annotationType, String name) {
+    Attribute attribute = ATTRIBUTES.get(annotationType).get(name);
+    if (attribute == null) {
+      throw new IllegalArgumentException(
+          "No attribute " + name + " on @" + annotationType.getSimpleName());
+    }
+    return attribute;
+  }
+
+  static Object valueOf(MethodHandle accessor, Annotation annotation) {
+    try {
+      return (Object) accessor.invokeExact(annotation);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static boolean attributeEquals(Object expected, Object actual) {
+    if (Objects.deepEquals(expected, actual)) {
+      return true;
+    }
+    // allows int literals to be given for long attributes such as Min.value
+    return expected instanceof Number && actual instanceof Number && sameNumber(expected, actual);
+  }
+
+  private static boolean sameNumber(Object expected, Object actual) {
+    return new BigDecimal(expected.toString()).compareTo(new BigDecimal(actual.toString())) == 0;
+  }
+
+  private static Map<String, Attribute> attributes(Class<?> annotationType) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    Map<String, Attribute> attributes = new TreeMap<>();
+    for (Method method : annotationType.getDeclaredMethods()) {
+      if (method.getParameterCount() == 0 && !method.isSynthetic()) {
+        attributes.put(
+            method.getName(), new Attribute(unreflect(lookup, method), method.getDefaultValue()));
+      }
+    }
+    return Collections.unmodifiableMap(attributes);
+  }
+
+  private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+    try {
+      // annotation types nested privately in a test are not otherwise accessible from here
+      method.setAccessible(true);
+      return lookup.unreflect(method).asType(ACCESSOR_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static final class Attribute {
+
+    final MethodHandle accessor;
+
+    // null when the attribute has no default and must be given
+    final Object defaultValue;
+
+    private Attribute(MethodHandle accessor, Object defaultValue) {
+      this.accessor = accessor;
+      this.defaultValue = defaultValue;
+    }
+  }
+
+  private AnnotationAttributes() {
+    throw new IllegalStateException();
+  }
+}
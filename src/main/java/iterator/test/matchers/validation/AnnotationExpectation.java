@@ -0,0 +1,194 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ConstraintModel.text;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// an annotation expected on a field, or on the type itself when there is no field name, with
+// every attribute not given expected to have its default value
+final class AnnotationExpectation {
+
+  static final int MAX_INTERNED = 4096;
+
+  // expectations are immutable and described entirely by the arguments of the convenience
+  // overloads, so the same assertion repeated across tests reuses the one built first
+  private static final ConcurrentMap<List<Object>, AnnotationExpectation> INTERNED =
+      new ConcurrentHashMap<>();
+
+  private final Class<? extends Annotation> annotationType;
+
+  private final String fieldName;
+
+  private final String[] names;
+
+  private final MethodHandle[] accessors;
+
+  private final Object[] values;
+
+  private final String given;
+
+  private AnnotationExpectation(
+      Class<? extends Annotation> annotationType, String fieldName, Object[] attributes) {
+    this.annotationType = annotationType;
+    this.fieldName = fieldName;
+    Map<String, Object> expected = new LinkedHashMap<>();
+    AnnotationAttributes.of(annotationType)
+        .forEach(
+            (name, attribute) -> {
+              if (attribute.defaultValue != null) {
+                expected.put(name, attribute.defaultValue);
+              }
+            });
+    StringJoiner joiner = new StringJoiner(", ", "(", ")").setEmptyValue("");
+    for (int i = 0; i < attributes.length; i += 2) {
+      String name = (String) attributes[i];
+      AnnotationAttributes.attribute(annotationType, name);
+      // an interned expectation outlives the call, so it must not see later changes to an array
+      Object value = copy(attributes[i + 1]);
+      expected.put(name, value);
+      joiner.add(name + "=" + text(value));
+    }
+    names = expected.keySet().toArray(new String[0]);
+    values = expected.values().toArray();
+    accessors = new MethodHandle[names.length];
+    for (int i = 0; i < names.length; i++) {
+      accessors[i] = AnnotationAttributes.accessor(annotationType, names[i]);
+    }
+    given = joiner.toString();
+  }
+
+  static AnnotationExpectation onField(
+      Class<? extends Annotation> annotationType, String fieldName, Object... attributes) {
+    return interned(annotationType, fieldName, attributes);
+  }
+
+  static AnnotationExpectation onType(
+      Class<? extends Annotation> annotationType, Object... attributes) {
+    return interned(annotationType, null, attributes);
+  }
+
+  static int internedCount() {
+    return INTERNED.size();
+  }
+
+  static void clearInterned() {
+    INTERNED.clear();
+  }
+
+  boolean isMetBy(Class<?> type) {
+    AnnotatedElement element = elementOf(type);
+    if (element == null) {
+      return false;
+    }
+    for (Annotation annotation : element.getAnnotationsByType(annotationType)) {
+      if (isMetBy(annotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  String mismatch(Class<?> type) {
+    AnnotatedElement element = elementOf(type);
+    if (element == null) {
+      return "had no field \"" + fieldName + "\"";
+    }
+    Annotation[] actual = element.getAnnotationsByType(annotationType);
+    if (actual.length == 0) {
+      return subject() + "had no @" + annotationType.getSimpleName();
+    }
+    StringJoiner joiner = new StringJoiner(", ");
+    for (int i = 0; i < names.length; i++) {
+      Object value = AnnotationAttributes.valueOf(accessors[i], actual[0]);
+      if (!AnnotationAttributes.attributeEquals(values[i], value)) {
+        joiner.add(names[i] + " was " + text(value) + " not " + text(values[i]));
+      }
+    }
+    return subject() + "@" + annotationType.getSimpleName() + " " + joiner;
+  }
+
+  private boolean isMetBy(Annotation annotation) {
+    for (int i = 0; i < names.length; i++) {
+      Object value = AnnotationAttributes.valueOf(accessors[i], annotation);
+      if (!AnnotationAttributes.attributeEquals(values[i], value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private AnnotatedElement elementOf(Class<?> type) {
+    if (fieldName == null) {
+      return type;
+    }
+    return DeclaredFields.of(type).get(fieldName);
+  }
+
+  private String subject() {
+    return fieldName == null ? "" : "field \"" + fieldName + "\" ";
+  }
+
+  private static AnnotationExpectation interned(
+      Class<? extends Annotation> annotationType, String fieldName, Object[] attributes) {
+    List<Object> key = key(annotationType, fieldName, attributes);
+    AnnotationExpectation expectation = INTERNED.get(key);
+    if (expectation != null) {
+      return expectation;
+    }
+    expectation = new AnnotationExpectation(annotationType, fieldName, attributes);
+    if (INTERNED.size() >= MAX_INTERNED) {
+      // generated arguments must not grow the cache without bound
+      return expectation;
+    }
+    AnnotationExpectation existing = INTERNED.putIfAbsent(key, expectation);
+    return existing == null ? expectation : existing;
+  }
+
+  private static List<Object> key(
+      Class<?> annotationType, String fieldName, Object[] attributes) {
+    List<Object> key = new ArrayList<>(attributes.length + 2);
+    key.add(annotationType);
+    key.add(fieldName);
+    for (Object attribute : attributes) {
+      // arrays compare by identity, so their contents stand in for them
+      key.add(
+          attribute instanceof Object[] ? Arrays.asList((Object[]) copy(attribute)) : attribute);
+    }
+    return Collections.unmodifiableList(key);
+  }
+
+  private static Object copy(Object attribute) {
+    return attribute instanceof Object[] ? ((Object[]) attribute).clone() : attribute;
+  }
+
+  @Override
+  public String toString() {
+    return subject() + "annotated with @" + annotationType.getSimpleName() + given;
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+// built for every assertion and holding nothing but its immutable, possibly shared, expectation
+class AnnotationExpectationMatcher<T> extends TypeSafeMatcher<Class<T>> {
+
+  private final AnnotationExpectation expectation;
+
+  AnnotationExpectationMatcher(AnnotationExpectation expectation) {
+    this.expectation = expectation;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText(expectation.toString());
+  }
+
+  @Override
+  protected boolean matchesSafely(Class<T> type) {
+    return expectation.isMetBy(type);
+  }
+
+  @Override
+  protected void describeMismatchSafely(Class<T> type, Description mismatchDescription) {
+    mismatchDescription.appendText(expectation.mismatch(type));
+  }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.Arrays;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class ArrayViolationsMatcher extends TypeSafeMatcher<Object[]> {
+
+  private final BulkViolationsMatcher bulkMatcher;
+
+  ArrayViolationsMatcher(BulkViolationsMatcher bulkMatcher) {
+    this.bulkMatcher = bulkMatcher;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    bulkMatcher.describeTo(description);
+  }
+
+  @Override
+  protected boolean matchesSafely(Object[] items) {
+    return bulkMatcher.matches(Arrays.asList(items));
+  }
+
+  @Override
+  protected void describeMismatchSafely(Object[] items, Description mismatchDescription) {
+    bulkMatcher.describeMismatch(Arrays.asList(items), mismatchDescription);
+  }
+}
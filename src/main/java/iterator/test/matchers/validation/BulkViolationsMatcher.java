@@ -0,0 +1,157 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class BulkViolationsMatcher extends TypeSafeMatcher<Iterable<?>> {
+
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final AbstractViolationsMatcher<Object> itemMatcher;
+
+  private final Executor executor;
+
+  BulkViolationsMatcher(AbstractViolationsMatcher<Object> itemMatcher) {
+    this(itemMatcher, null);
+  }
+
+  BulkViolationsMatcher(AbstractViolationsMatcher<Object> itemMatcher, Executor executor) {
+    this.itemMatcher = itemMatcher;
+    this.executor = executor;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("every item with ").appendDescriptionOf(itemMatcher);
+  }
+
+  @Override
+  protected boolean matchesSafely(Iterable<?> items) {
+    if (executor == null) {
+      for (Object item : items) {
+        if (!itemMatches(item)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    List<?> list = asList(items);
+    AtomicBoolean failed = new AtomicBoolean();
+    inChunks(
+        list,
+        (from, to) -> {
+          for (int i = from; i < to && !failed.get(); i++) {
+            if (!itemMatches(list.get(i))) {
+              failed.set(true);
+            }
+          }
+          return null;
+        });
+    return !failed.get();
+  }
+
+  @Override
+  protected void describeMismatchSafely(Iterable<?> items, Description mismatchDescription) {
+    ViolationsSummary summary = new ViolationsSummary(itemMatcher);
+    if (executor == null) {
+      long index = 0;
+      for (Object item : items) {
+        summary.accept(index++, item);
+      }
+    } else {
+      List<?> list = asList(items);
+      for (ViolationsSummary chunk :
+          inChunks(
+              list,
+              (from, to) -> {
+                ViolationsSummary s = new ViolationsSummary(itemMatcher);
+                for (int i = from; i < to; i++) {
+                  s.accept(i, list.get(i));
+                }
+                return s;
+              })) {
+        summary.merge(chunk);
+      }
+    }
+    summary.describeTo(mismatchDescription);
+  }
+
+  private boolean itemMatches(Object item) {
+    // a null item can't be validated, so it fails like TypeSafeMatcher would fail it
+    return item != null && itemMatcher.matchesSafely(item);
+  }
+
+  private <R> List<R> inChunks(List<?> items, ChunkTask<R> task) {
+    int size = items.size();
+    int chunks = (int) Math.max(1, Math.min(size, (long) parallelism() * CHUNKS_PER_THREAD));
+    List<CompletableFuture<R>> futures = new ArrayList<>(chunks);
+    for (int c = 0; c < chunks; c++) {
+      int from = (int) ((long) size * c / chunks);
+      int to = (int) ((long) size * (c + 1) / chunks);
+      futures.add(CompletableFuture.supplyAsync(() -> task.apply(from, to), executor));
+    }
+    List<R> results = new ArrayList<>(chunks);
+    try {
+      for (CompletableFuture<R> future : futures) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  private int parallelism() {
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    if (executor instanceof ValidationExecutorService) {
+      return ((ValidationExecutorService) executor).parallelism();
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  private static List<?> asList(Iterable<?> items) {
+    if (items instanceof List && items instanceof RandomAccess) {
+      return (List<?>) items;
+    }
+    List<Object> list = new ArrayList<>();
+    items.forEach(list::add);
+    return list;
+  }
+
+  @FunctionalInterface
+  private interface ChunkTask<R> {
+
+    R apply(int from, int to);
+  }
+}
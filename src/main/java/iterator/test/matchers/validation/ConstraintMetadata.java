@@ -0,0 +1,138 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ExecutableDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+final class ConstraintMetadata {
+
+  private final BeanDescriptor bean;
+
+  private final Groups defaultGroup;
+
+  private final ConcurrentMap<List<Class<?>>, Groups> groups = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Method, Executable> methods = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Constructor<?>, Executable> constructors = new ConcurrentHashMap<>();
+
+  private ConstraintMetadata(BeanDescriptor bean) {
+    this.bean = bean;
+    this.defaultGroup = new Groups(bean);
+  }
+
+  static ClassValue<ConstraintMetadata> cache(Validator validator) {
+    return new ClassValue<ConstraintMetadata>() {
+      @Override
+      protected ConstraintMetadata computeValue(Class<?> type) {
+        return new ConstraintMetadata(validator.getConstraintsForClass(type));
+      }
+    };
+  }
+
+  Groups forGroups(List<Class<?>> key) {
+    if (key.isEmpty()) {
+      return defaultGroup;
+    }
+    return groups.computeIfAbsent(key, k -> new Groups(bean, k.toArray(new Class<?>[0])));
+  }
+
+  Executable forMethod(Method method) {
+    return methods.computeIfAbsent(
+        method,
+        m -> new Executable(bean.getConstraintsForMethod(m.getName(), m.getParameterTypes())));
+  }
+
+  Executable forConstructor(Constructor<?> constructor) {
+    return constructors.computeIfAbsent(
+        constructor, c -> new Executable(bean.getConstraintsForConstructor(c.getParameterTypes())));
+  }
+
+  static final class Executable {
+
+    private final boolean constrainedParameters;
+
+    private final boolean constrainedReturnValue;
+
+    private Executable(ExecutableDescriptor executable) {
+      constrainedParameters = executable != null && executable.hasConstrainedParameters();
+      constrainedReturnValue = executable != null && executable.hasConstrainedReturnValue();
+    }
+
+    boolean hasConstrainedParameters() {
+      return constrainedParameters;
+    }
+
+    boolean hasConstrainedReturnValue() {
+      return constrainedReturnValue;
+    }
+  }
+
+  static final class Groups {
+
+    private final boolean constrained;
+
+    private final boolean classLevelConstraints;
+
+    private final Set<String> constrainedProperties = new HashSet<>();
+
+    private Groups(BeanDescriptor bean) {
+      constrained = bean.isBeanConstrained();
+      classLevelConstraints = !bean.getConstraintDescriptors().isEmpty();
+      for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+        constrainedProperties.add(property.getPropertyName());
+      }
+    }
+
+    // findConstraints resolves group sequences, inheritance and default group redefinition, so
+    // doing it once here spares each validation in these groups from asking again
+    private Groups(BeanDescriptor bean, Class<?>[] groups) {
+      classLevelConstraints =
+          bean.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints();
+      boolean cascaded = false;
+      for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+        cascaded |= property.isCascaded();
+        if (property.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()
+            || !property.getConstrainedContainerElementTypes().isEmpty()) {
+          constrainedProperties.add(property.getPropertyName());
+        }
+      }
+      constrained = classLevelConstraints || cascaded || !constrainedProperties.isEmpty();
+    }
+
+    boolean isConstrained() {
+      return constrained;
+    }
+
+    boolean hasClassLevelConstraints() {
+      return classLevelConstraints;
+    }
+
+    boolean isConstrained(String property) {
+      return constrainedProperties.contains(property);
+    }
+  }
+}
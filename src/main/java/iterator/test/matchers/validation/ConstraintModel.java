@@ -0,0 +1,164 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.ExecutableDescriptor;
+import javax.validation.metadata.MethodType;
+import javax.validation.metadata.ParameterDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import javax.validation.metadata.ReturnValueDescriptor;
+
+final class ConstraintModel {
+
+  private static final String INDENT = "  ";
+
+  static String of(Class<?> type) {
+    BeanDescriptor bean = ValidatorFactoryHolder.getValidator().getConstraintsForClass(type);
+    StringBuilder model = new StringBuilder("class ").append(type.getName()).append('\n');
+    model.append(constraints(bean.getConstraintDescriptors(), INDENT));
+    List<PropertyDescriptor> properties = new ArrayList<>(bean.getConstrainedProperties());
+    properties.sort(Comparator.comparing(PropertyDescriptor::getPropertyName));
+    for (PropertyDescriptor property : properties) {
+      element(
+          model,
+          "property " + property.getPropertyName(),
+          property.isCascaded(),
+          property.getConstraintDescriptors(),
+          property.getConstrainedContainerElementTypes(),
+          "");
+    }
+    // getters are left out, as their return value constraints are already those of a property
+    List<String> executables = new ArrayList<>();
+    bean.getConstrainedConstructors()
+        .forEach(constructor -> executables.add(executable("constructor", constructor)));
+    bean.getConstrainedMethods(MethodType.NON_GETTER)
+        .forEach(method -> executables.add(executable("method " + method.getName(), method)));
+    executables.stream().sorted().forEach(model::append);
+    return model.toString();
+  }
+
+  static String text(Object value) {
+    String text = Arrays.deepToString(new Object[] {value});
+    return text.substring(1, text.length() - 1);
+  }
+
+  // parameters are identified by index, as their names depend on how the class was compiled
+  private static String executable(String name, ExecutableDescriptor executable) {
+    List<ParameterDescriptor> parameters = executable.getParameterDescriptors();
+    StringJoiner signature = new StringJoiner(", ", name + "(", ")");
+    parameters.forEach(parameter -> signature.add(parameter.getElementClass().getName()));
+    StringBuilder model = new StringBuilder(signature.toString()).append('\n');
+    for (ParameterDescriptor parameter : parameters) {
+      if (parameter.hasConstraints()
+          || parameter.isCascaded()
+          || !parameter.getConstrainedContainerElementTypes().isEmpty()) {
+        element(
+            model,
+            "parameter " + parameter.getIndex(),
+            parameter.isCascaded(),
+            parameter.getConstraintDescriptors(),
+            parameter.getConstrainedContainerElementTypes(),
+            INDENT);
+      }
+    }
+    Set<ConstraintDescriptor<?>> crossParameter =
+        executable.getCrossParameterDescriptor().getConstraintDescriptors();
+    if (!crossParameter.isEmpty()) {
+      model.append(INDENT).append("cross-parameter\n");
+      model.append(constraints(crossParameter, INDENT + INDENT));
+    }
+    ReturnValueDescriptor returnValue = executable.getReturnValueDescriptor();
+    if (returnValue != null
+        && (returnValue.hasConstraints()
+            || returnValue.isCascaded()
+            || !returnValue.getConstrainedContainerElementTypes().isEmpty())) {
+      element(
+          model,
+          "return value",
+          returnValue.isCascaded(),
+          returnValue.getConstraintDescriptors(),
+          returnValue.getConstrainedContainerElementTypes(),
+          INDENT);
+    }
+    return model.toString();
+  }
+
+  private static void element(
+      StringBuilder model,
+      String name,
+      boolean cascaded,
+      Set<ConstraintDescriptor<?>> constraints,
+      Set<ContainerElementTypeDescriptor> containerElements,
+      String indent) {
+    model.append(indent).append(name);
+    if (cascaded) {
+      model.append(" cascaded");
+    }
+    model.append('\n').append(constraints(constraints, indent + INDENT));
+    List<ContainerElementTypeDescriptor> elements = new ArrayList<>(containerElements);
+    elements.sort(
+        Comparator.comparing((ContainerElementTypeDescriptor e) -> e.getContainerClass().getName())
+            .thenComparing(ContainerElementTypeDescriptor::getTypeArgumentIndex));
+    for (ContainerElementTypeDescriptor element : elements) {
+      element(
+          model,
+          "element "
+              + element.getContainerClass().getName()
+              + "<"
+              + element.getTypeArgumentIndex()
+              + ">",
+          element.isCascaded(),
+          element.getConstraintDescriptors(),
+          element.getConstrainedContainerElementTypes(),
+          indent + INDENT);
+    }
+  }
+
+  // descriptor sets have no defined order, so constraints are sorted to keep the model stable
+  private static String constraints(Set<ConstraintDescriptor<?>> constraints, String indent) {
+    return constraints.stream()
+        .map(descriptor -> constraint(descriptor, indent))
+        .sorted()
+        .collect(Collectors.joining());
+  }
+
+  private static String constraint(ConstraintDescriptor<?> constraint, String indent) {
+    StringJoiner attributes = new StringJoiner(", ", "(", ")");
+    new TreeMap<>(constraint.getAttributes())
+        .forEach((name, value) -> attributes.add(name + "=" + text(value)));
+    return indent
+        + "@"
+        + constraint.getAnnotation().annotationType().getName()
+        + attributes
+        + "\n"
+        + constraints(constraint.getComposingConstraints(), indent + INDENT);
+  }
+
+  private ConstraintModel() {
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+
+final class ConstraintPrewarmer {
+
+  private static final String CLASS_SUFFIX = ".class";
+
+  static CompletableFuture<Void> prewarm(Iterable<Class<?>> types, Executor executor) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (Class<?> type : types) {
+      futures.add(CompletableFuture.runAsync(() -> prewarm(type), executor));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  static void prewarm(Class<?> type) {
+    ValidatorFactoryHolder.getConstraintMetadata(type).forGroups(Collections.emptyList());
+    Validator validator = ValidatorFactoryHolder.getValidator();
+    for (PropertyDescriptor property :
+        validator.getConstraintsForClass(type).getConstrainedProperties()) {
+      if (property.getConstraintDescriptors().isEmpty()) {
+        continue;
+      }
+      try {
+        // validating a null value needs no instance but still initialises the property's
+        // constraint validators, which is most of what the first real validation pays for
+        validator.validateValue(type, property.getPropertyName(), null);
+      } catch (ValidationException e) {
+        // warming is best effort, the same failure will surface in the test that validates
+      }
+    }
+  }
+
+  static List<Class<?>> classesIn(String packageName, ClassLoader loader) {
+    String path = packageName.replace('.', '/');
+    List<Class<?>> classes = new ArrayList<>();
+    try {
+      Enumeration<URL> roots = loader.getResources(path);
+      while (roots.hasMoreElements()) {
+        for (String className : classNamesIn(roots.nextElement(), packageName, path)) {
+          load(className, loader, classes);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return classes;
+  }
+
+  private static List<String> classNamesIn(URL root, String packageName, String path)
+      throws IOException {
+    List<String> classNames = new ArrayList<>();
+    if ("jar".equals(root.getProtocol())) {
+      JarURLConnection connection = (JarURLConnection) root.openConnection();
+      connection.setUseCaches(false);
+      try (JarFile jar = connection.getJarFile()) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+          String name = entries.nextElement().getName();
+          if (name.startsWith(path + '/') && name.endsWith(CLASS_SUFFIX)) {
+            classNames.add(toClassName(name));
+          }
+        }
+      }
+    } else if ("file".equals(root.getProtocol())) {
+      Path dir = toPath(root);
+      try (Stream<Path> files = Files.walk(dir)) {
+        files
+            .filter(file -> file.toString().endsWith(CLASS_SUFFIX))
+            .map(file -> packageName + '.' + toClassName(dir.relativize(file)))
+            .forEach(classNames::add);
+      }
+    }
+    return classNames;
+  }
+
+  private static Path toPath(URL root) {
+    try {
+      return Paths.get(root.toURI());
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private static String toClassName(Path relative) {
+    List<String> names = new ArrayList<>();
+    relative.forEach(name -> names.add(name.toString()));
+    return toClassName(String.join("/", names));
+  }
+
+  private static String toClassName(String resource) {
+    return resource.substring(0, resource.length() - CLASS_SUFFIX.length()).replace('/', '.');
+  }
+
+  private static void load(String className, ClassLoader loader, List<Class<?>> classes) {
+    if (className.endsWith("package-info") || className.endsWith("module-info")) {
+      return;
+    }
+    try {
+      Class<?> type = Class.forName(className, false, loader);
+      if (!type.isAnnotation() && !type.isSynthetic()) {
+        classes.add(type);
+      }
+    } catch (ClassNotFoundException | LinkageError e) {
+      // classes with missing optional dependencies cannot be validated anyway
+    }
+  }
+
+  private ConstraintPrewarmer() {
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ConstraintModel.text;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class ConstraintProfileMatcher<T> extends TypeSafeMatcher<Class<T>> {
+
+  private final Class<T> type;
+
+  private final List<Expectation> expectations;
+
+  private final Map<String, List<Expectation>> byField = new LinkedHashMap<>();
+
+  ConstraintProfileMatcher(Class<T> type) {
+    this(type, Collections.emptyList());
+  }
+
+  private ConstraintProfileMatcher(Class<T> type, List<Expectation> expectations) {
+    this.type = type;
+    this.expectations = expectations;
+    for (Expectation expectation : expectations) {
+      byField.computeIfAbsent(expectation.field, k -> new ArrayList<>()).add(expectation);
+    }
+  }
+
+  public <A extends Annotation> ConstraintProfileMatcher<T> field(
+      String fieldName, Class<A> annotationType) {
+    return field(fieldName, annotationType, Collections.emptyMap());
+  }
+
+  public <A extends Annotation> ConstraintProfileMatcher<T> field(
+      String fieldName, Class<A> annotationType, Object value) {
+    return field(fieldName, annotationType, Collections.singletonMap("value", value));
+  }
+
+  public <A extends Annotation> ConstraintProfileMatcher<T> field(
+      String fieldName, Class<A> annotationType, Map<String, ?> attributes) {
+    List<Expectation> list = new ArrayList<>(expectations);
+    list.add(new Expectation(fieldName, annotationType, attributes));
+    return new ConstraintProfileMatcher<>(type, list);
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    StringJoiner joiner = new StringJoiner(", ");
+    expectations.forEach(expectation -> joiner.add(expectation.toString()));
+    description
+        .appendText("constraint profile of ")
+        .appendText(type.getSimpleName())
+        .appendText(" with ")
+        .appendText(joiner.toString());
+  }
+
+  @Override
+  protected boolean matchesSafely(Class<T> item) {
+    if (!ValidationMetrics.isEnabled()) {
+      return mismatches(item).isEmpty();
+    }
+    long start = System.nanoTime();
+    boolean matches = mismatches(item).isEmpty();
+    ValidationMetrics.recordAnnotationCheck(item, System.nanoTime() - start);
+    return matches;
+  }
+
+  @Override
+  protected void describeMismatchSafely(Class<T> item, Description mismatchDescription) {
+    mismatchDescription.appendText(String.join(", ", mismatches(item)));
+  }
+
+  private List<String> mismatches(Class<?> item) {
+    Map<String, Field> fields = DeclaredFields.of(item);
+    List<String> mismatches = new ArrayList<>();
+    for (Map.Entry<String, List<Expectation>> entry : byField.entrySet()) {
+      Field field = fields.get(entry.getKey());
+      if (field == null) {
+        mismatches.add("no field \"" + entry.getKey() + "\"");
+      } else {
+        for (Expectation expectation : entry.getValue()) {
+          expectation.check(field, mismatches);
+        }
+      }
+    }
+    return mismatches;
+  }
+
+  private static final class Expectation {
+
+    private final String field;
+
+    private final Class<? extends Annotation> annotationType;
+
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private final Map<String, MethodHandle> accessors = new LinkedHashMap<>();
+
+    private Expectation(
+        String field, Class<? extends Annotation> annotationType, Map<String, ?> attributes) {
+      this.field = field;
+      this.annotationType = annotationType;
+      attributes.forEach(
+          (name, value) -> {
+            accessors.put(name, AnnotationAttributes.accessor(annotationType, name));
+            this.attributes.put(name, value);
+          });
+    }
+
+    private void check(Field target, List<String> mismatches) {
+      Annotation[] actual = target.getAnnotationsByType(annotationType);
+      if (actual.length == 0) {
+        mismatches.add(field + " has no @" + annotationType.getSimpleName());
+        return;
+      }
+      for (Annotation annotation : actual) {
+        if (differences(annotation).isEmpty()) {
+          return;
+        }
+      }
+      mismatches.add(
+          field + " @" + annotationType.getSimpleName() + " " + differences(actual[0]));
+    }
+
+    private String differences(Annotation annotation) {
+      StringJoiner joiner = new StringJoiner(", ");
+      attributes.forEach(
+          (name, expected) -> {
+            Object value = AnnotationAttributes.valueOf(accessors.get(name), annotation);
+            if (!AnnotationAttributes.attributeEquals(expected, value)) {
+              joiner.add(name + " was " + text(value) + " not " + text(expected));
+            }
+          });
+      return joiner.toString();
+    }
+
+    @Override
+    public String toString() {
+      StringJoiner joiner = new StringJoiner(", ", "(", ")").setEmptyValue("");
+      attributes.forEach((name, value) -> joiner.add(name + "=" + text(value)));
+      return field + " @" + annotationType.getSimpleName() + joiner;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class ConstraintSnapshotMatcher<T> extends TypeSafeMatcher<Class<T>> {
+
+  public static final String UPDATE_PROPERTY = "iterator.validation.snapshots.update";
+
+  public static final String RECORD_PROPERTY = "iterator.validation.snapshots.record";
+
+  private static final String EXTENSION = ".constraints";
+
+  private final Path directory;
+
+  ConstraintSnapshotMatcher(Path directory) {
+    this.directory = directory;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("constraint model matching snapshot in ").appendValue(directory);
+  }
+
+  @Override
+  protected boolean matchesSafely(Class<T> type) {
+    byte[] model = ConstraintModel.of(type).getBytes(UTF_8);
+    Path snapshot = snapshotOf(type);
+    if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+      write(snapshot, model);
+      return true;
+    }
+    if (!Files.exists(snapshot)) {
+      // a snapshot deleted or never checked in must fail a build unless recording was asked for
+      if (!Boolean.getBoolean(RECORD_PROPERTY)) {
+        return false;
+      }
+      write(snapshot, model);
+      return true;
+    }
+    return read(snapshot).equals(ByteBuffer.wrap(model));
+  }
+
+  @Override
+  protected void describeMismatchSafely(Class<T> type, Description mismatchDescription) {
+    Path snapshot = snapshotOf(type);
+    if (!Files.exists(snapshot)) {
+      mismatchDescription
+          .appendText("no snapshot at ")
+          .appendValue(snapshot)
+          .appendText(", run with -D" + RECORD_PROPERTY + "=true to record it");
+      return;
+    }
+    String[] actual = ConstraintModel.of(type).split("\n", -1);
+    String[] expected = UTF_8.decode(read(snapshot)).toString().split("\n", -1);
+    int line = 0;
+    while (line < actual.length && line < expected.length && actual[line].equals(expected[line])) {
+      line++;
+    }
+    mismatchDescription
+        .appendText("line ")
+        .appendText(String.valueOf(line + 1))
+        .appendText(" was ")
+        .appendValue(line < actual.length ? actual[line] : "")
+        .appendText(" but ")
+        .appendValue(snapshot)
+        .appendText(" has ")
+        .appendValue(line < expected.length ? expected[line] : "");
+  }
+
+  private Path snapshotOf(Class<?> type) {
+    return directory.resolve(type.getName() + EXTENSION);
+  }
+
+  // snapshots are mapped rather than read so that only the pages compared are loaded
+  private static ByteBuffer read(Path snapshot) {
+    try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+      return channel.map(MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void write(Path snapshot, byte[] model) {
+    try {
+      Files.createDirectories(snapshot.getParent());
+      Files.write(snapshot, model);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintViolation;
+import javax.validation.executable.ExecutableValidator;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class ExecutableViolationsMatcher<T> extends TypeSafeMatcher<T> {
+
+  enum Target {
+    PARAMETERS("parameter"),
+    RETURN_VALUE("return value");
+
+    private final String description;
+
+    Target(String description) {
+      this.description = description;
+    }
+  }
+
+  private final Target target;
+
+  // null when the matched item is itself the constructor whose parameters are validated
+  private final Executable executable;
+
+  private final Object[] values;
+
+  private final boolean violated;
+
+  private final Class<? extends ConstraintValidator> cvc;
+
+  ExecutableViolationsMatcher(
+      Target target,
+      Executable executable,
+      Object[] values,
+      boolean violated,
+      Class<? extends ConstraintValidator> constraintValidatorClass) {
+    this.target = target;
+    this.executable = executable;
+    // a lone null passed as varargs arrives as a null array rather than an array holding null
+    this.values = values == null ? new Object[] {null} : values.clone();
+    this.violated = violated;
+    this.cvc = constraintValidatorClass;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    if (!violated) {
+      description.appendText("no " + target.description + " constraint violations");
+    } else if (cvc == null) {
+      description.appendText(target.description + " constraint violations");
+    } else {
+      description.appendValue(cvc).appendText(" " + target.description + " constraint violation");
+    }
+    description.appendText(" on ").appendText(signature());
+    // a constructor's return value is the matched item itself, so nothing else is given
+    if (target == Target.PARAMETERS || executable instanceof Method) {
+      description.appendText(" given ").appendValueList("[", ", ", "]", values);
+    }
+  }
+
+  @Override
+  protected boolean matchesSafely(T item) {
+    List<Class<? extends ConstraintValidator>> actualViolations = actualViolations(item);
+    if (!violated) {
+      return actualViolations.isEmpty();
+    }
+    return cvc == null ? !actualViolations.isEmpty() : actualViolations.contains(cvc);
+  }
+
+  @Override
+  protected void describeMismatchSafely(T item, Description mismatchDescription) {
+    List<Class<? extends ConstraintValidator>> actualViolations = actualViolations(item);
+    if (actualViolations.isEmpty()) {
+      mismatchDescription.appendText("was valid");
+    } else {
+      ViolationsDescription.describeViolated(mismatchDescription, actualViolations);
+    }
+  }
+
+  private List<Class<? extends ConstraintValidator>> actualViolations(T item) {
+    return new ViolatedConstraints(validate(item), (String) null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Set<? extends ConstraintViolation<?>> validate(T item) {
+    ExecutableValidator validator = ValidatorFactoryHolder.getValidator().forExecutables();
+    if (executable instanceof Method) {
+      Method method = (Method) executable;
+      ConstraintMetadata.Executable metadata =
+          ValidatorFactoryHolder.getConstraintMetadata(item.getClass()).forMethod(method);
+      if (target == Target.PARAMETERS) {
+        return metadata.hasConstrainedParameters()
+            ? validator.validateParameters(item, method, values)
+            : Collections.emptySet();
+      }
+      return metadata.hasConstrainedReturnValue()
+          ? validator.validateReturnValue(item, method, values[0])
+          : Collections.emptySet();
+    }
+    Constructor<T> constructor =
+        (Constructor<T>) (executable == null ? (Constructor<?>) item : executable);
+    ConstraintMetadata.Executable metadata =
+        ValidatorFactoryHolder.getConstraintMetadata(constructor.getDeclaringClass())
+            .forConstructor(constructor);
+    if (target == Target.PARAMETERS) {
+      return metadata.hasConstrainedParameters()
+          ? validator.validateConstructorParameters(constructor, values)
+          : Collections.emptySet();
+    }
+    return metadata.hasConstrainedReturnValue()
+        ? validator.validateConstructorReturnValue(constructor, item)
+        : Collections.emptySet();
+  }
+
+  private String signature() {
+    if (executable == null) {
+      return "constructor";
+    }
+    List<String> parameterTypes = new ArrayList<>();
+    for (Class<?> parameterType : executable.getParameterTypes()) {
+      parameterTypes.add(parameterType.getSimpleName());
+    }
+    String name = executable.getDeclaringClass().getSimpleName();
+    if (executable instanceof Method) {
+      name += "." + executable.getName();
+    }
+    return name + "(" + String.join(", ", parameterTypes) + ")";
+  }
+}
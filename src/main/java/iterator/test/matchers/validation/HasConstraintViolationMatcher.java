@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.ConstraintValidator;
+import org.hamcrest.Description;
+
+// matches on the violated constraint's annotation type rather than its validator classes, which
+// list every candidate validator for the constraint and not just the one that ran
+public class HasConstraintViolationMatcher<T, A extends Annotation>
+    extends AbstractViolationsMatcher<T> {
+
+  private final Class<A> annotationType;
+
+  HasConstraintViolationMatcher(Class<A> annotationType) {
+    this(annotationType, null);
+  }
+
+  HasConstraintViolationMatcher(Class<A> annotationType, String fieldName) {
+    this(annotationType, fieldName, new Class<?>[0]);
+  }
+
+  HasConstraintViolationMatcher(Class<A> annotationType, String fieldName, Class<?>... groups) {
+    super(fieldName, groups);
+    this.annotationType = annotationType;
+  }
+
+  @Override
+  protected void describeGenerally(Description description) {
+    description.appendText("@" + annotationType.getSimpleName() + " constraint violation");
+  }
+
+  @Override
+  protected boolean matches(List<Class<? extends ConstraintValidator>> actualViolations) {
+    return ((ViolatedConstraints) actualViolations).containsConstraint(annotationType);
+  }
+
+  @Override
+  protected void describeMismatchGenerally(
+      T item,
+      Description mismatchDescription,
+      List<Class<? extends ConstraintValidator>> actualViolations) {
+    List<String> names = new ArrayList<>();
+    for (Class<? extends Annotation> constraint :
+        ((ViolatedConstraints) actualViolations).constraints()) {
+      names.add("@" + constraint.getSimpleName());
+    }
+    if (names.isEmpty()) {
+      mismatchDescription.appendText("was valid");
+    } else {
+      mismatchDescription
+          .appendText("violated constraints ")
+          .appendText(names.toString())
+          .appendText(" but not @" + annotationType.getSimpleName());
+    }
+  }
+}
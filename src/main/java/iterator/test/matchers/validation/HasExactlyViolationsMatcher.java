@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintViolation;
+import org.hamcrest.Description;
+
+public class HasExactlyViolationsMatcher<T> extends AbstractViolationsMatcher<T> {
+
+  private final List<ViolationExpectation> expectations;
+
+  HasExactlyViolationsMatcher(ViolationExpectation... expectations) {
+    this.expectations = Collections.unmodifiableList(Arrays.asList(expectations.clone()));
+  }
+
+  @Override
+  protected void describeGenerally(Description description) {
+    description.appendText("exactly the constraint violations ").appendValue(expectations);
+  }
+
+  @Override
+  protected boolean matches(List<Class<? extends ConstraintValidator>> actualViolations) {
+    Outcome outcome = new Outcome(actualViolations);
+    return outcome.missing.isEmpty() && outcome.unexpected.isEmpty();
+  }
+
+  @Override
+  protected void describeMismatchGenerally(
+      T item,
+      Description mismatchDescription,
+      List<Class<? extends ConstraintValidator>> actualViolations) {
+    Outcome outcome = new Outcome(actualViolations);
+    String separator = "";
+    if (!outcome.missing.isEmpty()) {
+      mismatchDescription.appendText("missing ").appendValue(outcome.missing);
+      separator = ", ";
+    }
+    if (!outcome.unexpected.isEmpty()) {
+      mismatchDescription.appendText(separator).appendText("unexpected [");
+      for (int i = 0; i < outcome.unexpected.size(); i++) {
+        ConstraintViolation<?> violation = outcome.unexpected.get(i);
+        mismatchDescription
+            .appendText(i == 0 ? "" : ", ")
+            .appendText(validatorNames(violation))
+            .appendText(" on ")
+            .appendValue(violation.getPropertyPath().toString());
+      }
+      mismatchDescription.appendText("]");
+    }
+  }
+
+  private static String validatorNames(ConstraintViolation<?> violation) {
+    List<String> names = new ArrayList<>();
+    for (Class<?> validator : violation.getConstraintDescriptor().getConstraintValidatorClasses()) {
+      names.add(validator.getSimpleName());
+    }
+    return String.join("|", names);
+  }
+
+  private final class Outcome {
+
+    private final List<ViolationExpectation> missing = new ArrayList<>();
+
+    private final List<ConstraintViolation<?>> unexpected = new ArrayList<>();
+
+    // the violations come from a single validation, and every expectation is checked against
+    // the same path index rather than validating the item once per expectation
+    private Outcome(List<Class<? extends ConstraintValidator>> actualViolations) {
+      ViolationIndex index = ((ViolatedConstraints) actualViolations).index();
+      Set<ConstraintViolation<?>> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (ViolationExpectation expectation : expectations) {
+        boolean met = false;
+        for (ConstraintViolation<?> violation : index.matching(expectation.pattern())) {
+          if (expectation.isMetBy(violation)) {
+            expected.add(violation);
+            met = true;
+          }
+        }
+        if (!met) {
+          missing.add(expectation);
+        }
+      }
+      for (ConstraintViolation<?> violation : index.all()) {
+        if (!expected.contains(violation)) {
+          unexpected.add(violation);
+        }
+      }
+    }
+  }
+}
@@ -21,12 +21,28 @@ import org.hamcrest.Description;
 
 public class HasNoViolationsMatcher<T> extends AbstractViolationsMatcher<T> {
 
+  private final boolean failFast;
+
   HasNoViolationsMatcher() {
-    super();
+    this(null);
   }
 
   HasNoViolationsMatcher(String fieldName) {
-    super(fieldName);
+    this(fieldName, false);
+  }
+
+  HasNoViolationsMatcher(String fieldName, boolean failFast) {
+    this(fieldName, failFast, new Class<?>[0]);
+  }
+
+  HasNoViolationsMatcher(String fieldName, boolean failFast, Class<?>... groups) {
+    super(fieldName, groups);
+    this.failFast = failFast;
+  }
+
+  @Override
+  boolean failsFast() {
+    return failFast;
   }
 
   @Override
@@ -39,7 +55,7 @@ public class HasNoViolationsMatcher<T> extends AbstractViolationsMatcher<T> {
       T item,
       Description mismatchDescription,
       List<Class<? extends ConstraintValidator>> actualViolations) {
-    mismatchDescription.appendText("violated constraints ").appendValue(actualViolations);
+    ViolationsDescription.describeViolated(mismatchDescription, actualViolations);
   }
 
   @Override
@@ -23,14 +23,18 @@ import org.hamcrest.Description;
 public class HasViolationsMatcher<T, A extends Annotation, V extends ConstraintValidator<A, ?>>
     extends AbstractViolationsMatcher<T> {
 
-  private Class<V> cvc;
+  private final Class<V> cvc;
 
   HasViolationsMatcher(Class<V> constraintValidatorClass) {
     this(constraintValidatorClass, null);
   }
 
   HasViolationsMatcher(Class<V> constraintValidatorClass, String fieldName) {
-    super(fieldName);
+    this(constraintValidatorClass, fieldName, new Class<?>[0]);
+  }
+
+  HasViolationsMatcher(Class<V> constraintValidatorClass, String fieldName, Class<?>... groups) {
+    super(fieldName, groups);
     cvc = constraintValidatorClass;
   }
 
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+class InstrumentedAnnotationMatcher<T> extends BaseMatcher<Class<T>> {
+
+  private final Matcher<Class<T>> delegate;
+
+  InstrumentedAnnotationMatcher(Matcher<Class<T>> delegate) {
+    this.delegate = delegate;
+  }
+
+  // metrics are looked up on every match rather than when the matcher is built, so matchers kept
+  // in fields or built before ValidationMetrics.enable() are measured once it is enabled
+  @Override
+  public boolean matches(Object item) {
+    if (!ValidationMetrics.isEnabled()) {
+      return delegate.matches(item);
+    }
+    long start = System.nanoTime();
+    boolean matches = delegate.matches(item);
+    if (item instanceof Class) {
+      ValidationMetrics.recordAnnotationCheck((Class<?>) item, System.nanoTime() - start);
+    }
+    return matches;
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    delegate.describeTo(description);
+  }
+
+  @Override
+  public void describeMismatch(Object item, Description mismatchDescription) {
+    delegate.describeMismatch(item, mismatchDescription);
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class PathPattern {
+
+  static final String ANY = "*";
+
+  static final String SUB_GRAPH = "**";
+
+  private final String pattern;
+
+  private final String[] names;
+
+  private final String[] indices;
+
+  private final boolean prefix;
+
+  private PathPattern(String pattern, String[] names, String[] indices, boolean prefix) {
+    this.pattern = pattern;
+    this.names = names;
+    this.indices = indices;
+    this.prefix = prefix;
+  }
+
+  // segments are separated by dots outside brackets and look like name, name[3], name[*] or
+  // name[key], and a final ** segment matches the path it follows and everything beneath it
+  static PathPattern compile(String pattern) {
+    if (pattern.isEmpty()) {
+      // the root node only, which is where class level constraints are reported
+      return new PathPattern(pattern, new String[0], new String[0], false);
+    }
+    List<String> segments = split(pattern);
+    boolean prefix = SUB_GRAPH.equals(segments.get(segments.size() - 1));
+    if (prefix) {
+      segments.remove(segments.size() - 1);
+    }
+    String[] names = new String[segments.size()];
+    String[] indices = new String[segments.size()];
+    for (int i = 0; i < segments.size(); i++) {
+      String segment = segments.get(i);
+      int bracket = segment.indexOf('[');
+      if (segment.isEmpty() || SUB_GRAPH.equals(segment) || bracket == 0) {
+        throw new IllegalArgumentException("invalid path pattern \"" + pattern + "\"");
+      }
+      if (bracket < 0) {
+        names[i] = segment;
+      } else if (segment.charAt(segment.length() - 1) != ']') {
+        throw new IllegalArgumentException("invalid path pattern \"" + pattern + "\"");
+      } else {
+        names[i] = segment.substring(0, bracket);
+        indices[i] = segment.substring(bracket + 1, segment.length() - 1);
+      }
+    }
+    return new PathPattern(pattern, names, indices, prefix);
+  }
+
+  String firstName() {
+    return names.length == 0 || ANY.equals(names[0]) ? null : names[0];
+  }
+
+  boolean matches(String[] pathNames, String[] pathIndices) {
+    if (prefix ? pathNames.length < names.length : pathNames.length != names.length) {
+      return false;
+    }
+    for (int i = 0; i < names.length; i++) {
+      if (!matches(names[i], pathNames[i]) || !matchesIndex(indices[i], pathIndices[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matches(String expected, String actual) {
+    return ANY.equals(expected) || expected.equals(actual);
+  }
+
+  private static boolean matchesIndex(String expected, String actual) {
+    if (expected == null || actual == null) {
+      return expected == actual;
+    }
+    return matches(expected, actual);
+  }
+
+  private static List<String> split(String pattern) {
+    List<String> segments = new ArrayList<>();
+    int depth = 0;
+    int start = 0;
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c == '[') {
+        depth++;
+      } else if (c == ']') {
+        depth--;
+      } else if (c == '.' && depth == 0) {
+        segments.add(pattern.substring(start, i));
+        start = i + 1;
+      }
+    }
+    segments.add(pattern.substring(start));
+    return segments;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class PublisherViolationsMatcher extends TypeSafeMatcher<Flow.Publisher<?>> {
+
+  private final AbstractViolationsMatcher<Object> itemMatcher;
+
+  private final Executor executor;
+
+  private final int concurrency;
+
+  private final boolean failFast;
+
+  private final ViolationsSummary.LastFailure lastFailure = new ViolationsSummary.LastFailure();
+
+  PublisherViolationsMatcher(AbstractViolationsMatcher<Object> itemMatcher) {
+    this(
+        itemMatcher,
+        ForkJoinPool.commonPool(),
+        Math.max(1, ForkJoinPool.getCommonPoolParallelism()),
+        false);
+  }
+
+  private PublisherViolationsMatcher(
+      AbstractViolationsMatcher<Object> itemMatcher,
+      Executor executor,
+      int concurrency,
+      boolean failFast) {
+    super(Flow.Publisher.class);
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be positive but was " + concurrency);
+    }
+    this.itemMatcher = itemMatcher;
+    this.executor = executor;
+    this.concurrency = concurrency;
+    this.failFast = failFast;
+  }
+
+  public PublisherViolationsMatcher failFast() {
+    return new PublisherViolationsMatcher(itemMatcher, executor, concurrency, true);
+  }
+
+  public PublisherViolationsMatcher using(Executor executor, int concurrency) {
+    return new PublisherViolationsMatcher(itemMatcher, executor, concurrency, failFast);
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("every published item with ").appendDescriptionOf(itemMatcher);
+  }
+
+  @Override
+  protected boolean matchesSafely(Flow.Publisher<?> publisher) {
+    return lastFailure.record(publisher, summarise(publisher));
+  }
+
+  // the publisher isn't subscribed to again, as a hot or one-shot publisher wouldn't replay its
+  // items and one that never completes would block, so only the summary of the match is described
+  @Override
+  protected void describeMismatchSafely(
+      Flow.Publisher<?> publisher, Description mismatchDescription) {
+    ViolationsSummary summary = lastFailure.take(publisher);
+    if (summary == null) {
+      mismatchDescription.appendText("wasn't matched on this thread, so has no items to describe");
+      return;
+    }
+    summary.describeTo(mismatchDescription);
+    if (failFast) {
+      mismatchDescription.appendText(" (stopped at first failure)");
+    }
+  }
+
+  private ViolationsSummary summarise(Flow.Publisher<?> publisher) {
+    ViolationsSubscriber subscriber =
+        new ViolationsSubscriber(itemMatcher, executor, concurrency, failFast);
+    publisher.subscribe(subscriber);
+    try {
+      return subscriber.result().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
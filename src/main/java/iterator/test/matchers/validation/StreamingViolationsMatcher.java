@@ -0,0 +1,107 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+public class StreamingViolationsMatcher<S> extends TypeSafeMatcher<S> {
+
+  private final Class<?> expectedType;
+
+  private final Function<S, Iterator<?>> iteratorOf;
+
+  private final AbstractViolationsMatcher<Object> itemMatcher;
+
+  private final boolean failFast;
+
+  private final ViolationsSummary.LastFailure lastFailure = new ViolationsSummary.LastFailure();
+
+  StreamingViolationsMatcher(
+      Class<?> expectedType,
+      Function<S, Iterator<?>> iteratorOf,
+      AbstractViolationsMatcher<Object> itemMatcher) {
+    this(expectedType, iteratorOf, itemMatcher, false);
+  }
+
+  private StreamingViolationsMatcher(
+      Class<?> expectedType,
+      Function<S, Iterator<?>> iteratorOf,
+      AbstractViolationsMatcher<Object> itemMatcher,
+      boolean failFast) {
+    super(expectedType);
+    this.expectedType = expectedType;
+    this.iteratorOf = iteratorOf;
+    this.itemMatcher = itemMatcher;
+    this.failFast = failFast;
+  }
+
+  public StreamingViolationsMatcher<S> failFast() {
+    return new StreamingViolationsMatcher<>(expectedType, iteratorOf, itemMatcher, true);
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("every streamed item with ").appendDescriptionOf(itemMatcher);
+  }
+
+  @Override
+  protected boolean matchesSafely(S source) {
+    return lastFailure.record(source, summarise(source));
+  }
+
+  // a source consumed by matchesSafely can't be read again, so the summary it left is described
+  @Override
+  protected void describeMismatchSafely(S source, Description mismatchDescription) {
+    ViolationsSummary summary = lastFailure.take(source);
+    if (summary == null) {
+      try {
+        summary = summarise(source);
+      } catch (IllegalStateException e) {
+        mismatchDescription.appendText("was already consumed, so its items can't be described");
+        return;
+      }
+    }
+    summary.describeTo(mismatchDescription);
+    if (failFast) {
+      mismatchDescription.appendText(" (stopped at first failure)");
+    }
+  }
+
+  private ViolationsSummary summarise(S source) {
+    if (source instanceof BaseStream) {
+      // runs onClose handlers, such as the one closing the file behind Files.lines
+      try (BaseStream<?, ?> stream = (BaseStream<?, ?>) source) {
+        return summarise(iteratorOf.apply(source));
+      }
+    }
+    return summarise(iteratorOf.apply(source));
+  }
+
+  private ViolationsSummary summarise(Iterator<?> items) {
+    ViolationsSummary summary = new ViolationsSummary(itemMatcher);
+    long index = 0;
+    while (items.hasNext()) {
+      if (!summary.accept(index++, items.next()) && failFast) {
+        break;
+      }
+    }
+    return summary;
+  }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ValidationExecutors {
+
+  static final int BLOCKING_THREADS_PER_PROCESSOR = 8;
+
+  public static ExecutorService virtualThreadPerTask() {
+    ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+    if (virtual != null) {
+      return new ValidationExecutorService(virtual, Integer.MAX_VALUE);
+    }
+    // platform threads are too costly to start one per item, so blocking validations overlap on
+    // a pool a few times larger than the number of processors instead
+    int threads = Runtime.getRuntime().availableProcessors() * BLOCKING_THREADS_PER_PROCESSOR;
+    AtomicInteger count = new AtomicInteger();
+    return new ValidationExecutorService(
+        Executors.newFixedThreadPool(
+            threads,
+            task -> {
+              Thread thread = new Thread(task, "validation-worker-" + count.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }),
+        threads);
+  }
+
+  // looked up reflectively so the library still runs on JDKs without virtual threads
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      return null;
+    }
+  }
+
+  private ValidationExecutors() {
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+public class ValidationExtension implements BeforeAllCallback, ParameterResolver {
+
+  private static final Namespace NAMESPACE = Namespace.create(ValidationExtension.class);
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    SharedFactory shared = shared(context);
+    // another extension or test may have swapped the factory out since the run started
+    if (!ValidatorFactoryHolder.isCurrent(shared.factory)) {
+      ValidatorFactoryHolder.setValidatorFactory(shared.factory);
+    }
+    AnnotationSupport.findAnnotation(context.getElement(), PrewarmConstraints.class)
+        .ifPresent(ValidationExtension::prewarm);
+  }
+
+  @Override
+  public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext context) {
+    Class<?> type = parameterContext.getParameter().getType();
+    return type == Validator.class || type == ValidatorFactory.class;
+  }
+
+  @Override
+  public Object resolveParameter(ParameterContext parameterContext, ExtensionContext context) {
+    SharedFactory shared = shared(context);
+    return parameterContext.getParameter().getType() == Validator.class
+        ? shared.factory.getValidator()
+        : shared.factory;
+  }
+
+  private static SharedFactory shared(ExtensionContext context) {
+    // the root store lives for the whole engine run and closes its resources when the run ends
+    return context
+        .getRoot()
+        .getStore(NAMESPACE)
+        .getOrComputeIfAbsent(SharedFactory.class, k -> new SharedFactory(), SharedFactory.class);
+  }
+
+  private static void prewarm(PrewarmConstraints prewarm) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    futures.add(ValidationMatchers.prewarm(prewarm.value()));
+    for (String packageName : prewarm.packages()) {
+      futures.add(ValidationMatchers.prewarmPackage(packageName));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+  }
+
+  private static final class SharedFactory implements ExtensionContext.Store.CloseableResource {
+
+    private final ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+
+    private SharedFactory() {
+      ValidatorFactoryHolder.setValidatorFactory(factory);
+    }
+
+    @Override
+    public void close() {
+      if (ValidatorFactoryHolder.isCurrent(factory)) {
+        ValidatorFactoryHolder.setValidatorFactory(null);
+      }
+      factory.close();
+    }
+  }
+}
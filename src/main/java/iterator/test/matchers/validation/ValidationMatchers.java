@@ -15,10 +15,23 @@
  */
 package iterator.test.matchers.validation;
 
+import static iterator.test.matchers.validation.ExecutableViolationsMatcher.Target.PARAMETERS;
+import static iterator.test.matchers.validation.ExecutableViolationsMatcher.Target.RETURN_VALUE;
+
 import iterator.test.matchers.type.annotation.AnnotationMap;
 import iterator.test.matchers.type.annotation.FieldAnnotationMatcher;
 import iterator.test.matchers.type.annotation.TypeAnnotationMatcher;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import javax.validation.ConstraintValidator;
 import javax.validation.constraints.AssertFalse;
 import javax.validation.constraints.AssertTrue;
@@ -70,6 +83,22 @@ public final class ValidationMatchers {
     return new HasNoViolationsMatcher<>(field);
   }
 
+  public static <T> Matcher<T> hasNoViolations(Class<?>... groups) {
+    return new HasNoViolationsMatcher<>(null, false, groups);
+  }
+
+  public static <T> Matcher<T> hasNoViolations(String field, Class<?>... groups) {
+    return new HasNoViolationsMatcher<>(field, false, groups);
+  }
+
+  public static <T> Matcher<T> hasNoViolationsFailFast() {
+    return new HasNoViolationsMatcher<>(null, true);
+  }
+
+  public static <T> Matcher<T> hasNoViolationsFailFast(String field) {
+    return new HasNoViolationsMatcher<>(field, true);
+  }
+
   public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
       Matcher<T> hasViolations(Class<V> constraintValidatorClass) {
     return new HasViolationsMatcher<>(constraintValidatorClass);
@@ -80,8 +109,267 @@ public final class ValidationMatchers {
     return new HasViolationsMatcher<>(constraintValidatorClass, fieldName);
   }
 
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<T> hasViolations(Class<V> constraintValidatorClass, Class<?>... groups) {
+    return new HasViolationsMatcher<>(constraintValidatorClass, null, groups);
+  }
+
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<T> hasViolations(
+          String fieldName, Class<V> constraintValidatorClass, Class<?>... groups) {
+    return new HasViolationsMatcher<>(constraintValidatorClass, fieldName, groups);
+  }
+
+  public static <T, A extends Annotation> Matcher<T> hasViolation(Class<A> annotationType) {
+    return new HasConstraintViolationMatcher<>(annotationType);
+  }
+
+  public static <T, A extends Annotation> Matcher<T> hasViolation(
+      Class<A> annotationType, String fieldName) {
+    return new HasConstraintViolationMatcher<>(annotationType, fieldName);
+  }
+
+  public static <T, A extends Annotation> Matcher<T> hasViolation(
+      Class<A> annotationType, Class<?>... groups) {
+    return new HasConstraintViolationMatcher<>(annotationType, null, groups);
+  }
+
+  public static <T, A extends Annotation> Matcher<T> hasViolation(
+      Class<A> annotationType, String fieldName, Class<?>... groups) {
+    return new HasConstraintViolationMatcher<>(annotationType, fieldName, groups);
+  }
+
+  public static <T> Matcher<T> hasExactlyViolations(ViolationExpectation... expectations) {
+    return new HasExactlyViolationsMatcher<>(expectations);
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      ViolationExpectation on(String path, Class<V> constraintValidatorClass) {
+    return new ViolationExpectation(path, constraintValidatorClass);
+  }
+
+  public static <T> Matcher<T> hasNoParameterViolations(Method method, Object... args) {
+    return new ExecutableViolationsMatcher<>(PARAMETERS, method, args, false, null);
+  }
+
+  public static <T> Matcher<T> hasParameterViolations(Method method, Object... args) {
+    return new ExecutableViolationsMatcher<>(PARAMETERS, method, args, true, null);
+  }
+
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<T> hasParameterViolations(
+          Class<V> constraintValidatorClass, Method method, Object... args) {
+    return new ExecutableViolationsMatcher<>(
+        PARAMETERS, method, args, true, constraintValidatorClass);
+  }
+
+  public static <T> Matcher<T> hasNoReturnValueViolations(Method method, Object returnValue) {
+    return new ExecutableViolationsMatcher<>(
+        RETURN_VALUE, method, new Object[] {returnValue}, false, null);
+  }
+
+  public static <T> Matcher<T> hasReturnValueViolations(Method method, Object returnValue) {
+    return new ExecutableViolationsMatcher<>(
+        RETURN_VALUE, method, new Object[] {returnValue}, true, null);
+  }
+
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<T> hasReturnValueViolations(
+          Class<V> constraintValidatorClass, Method method, Object returnValue) {
+    return new ExecutableViolationsMatcher<>(
+        RETURN_VALUE, method, new Object[] {returnValue}, true, constraintValidatorClass);
+  }
+
+  public static <T> Matcher<Constructor<T>> hasNoConstructorParameterViolations(Object... args) {
+    return new ExecutableViolationsMatcher<>(PARAMETERS, null, args, false, null);
+  }
+
+  public static <T> Matcher<Constructor<T>> hasConstructorParameterViolations(Object... args) {
+    return new ExecutableViolationsMatcher<>(PARAMETERS, null, args, true, null);
+  }
+
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Constructor<T>> hasConstructorParameterViolations(
+          Class<V> constraintValidatorClass, Object... args) {
+    return new ExecutableViolationsMatcher<>(
+        PARAMETERS, null, args, true, constraintValidatorClass);
+  }
+
+  public static <T> Matcher<T> hasNoConstructorReturnValueViolations(Constructor<T> constructor) {
+    return new ExecutableViolationsMatcher<>(RETURN_VALUE, constructor, new Object[0], false, null);
+  }
+
+  public static <T> Matcher<T> hasConstructorReturnValueViolations(Constructor<T> constructor) {
+    return new ExecutableViolationsMatcher<>(RETURN_VALUE, constructor, new Object[0], true, null);
+  }
+
+  public static <T, A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<T> hasConstructorReturnValueViolations(
+          Class<V> constraintValidatorClass, Constructor<T> constructor) {
+    return new ExecutableViolationsMatcher<>(
+        RETURN_VALUE, constructor, new Object[0], true, constraintValidatorClass);
+  }
+
+  public static Matcher<Iterable<?>> allHaveNoViolations() {
+    return new BulkViolationsMatcher(new HasNoViolationsMatcher<>());
+  }
+
+  public static Matcher<Iterable<?>> allHaveNoViolations(Executor executor) {
+    return new BulkViolationsMatcher(new HasNoViolationsMatcher<>(), executor);
+  }
+
+  public static Matcher<Iterable<?>> allHaveNoViolations(String field) {
+    return new BulkViolationsMatcher(new HasNoViolationsMatcher<>(field));
+  }
+
+  public static Matcher<Iterable<?>> allHaveNoViolations(String field, Executor executor) {
+    return new BulkViolationsMatcher(new HasNoViolationsMatcher<>(field), executor);
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Iterable<?>> allHaveViolations(Class<V> constraintValidatorClass) {
+    return new BulkViolationsMatcher(new HasViolationsMatcher<>(constraintValidatorClass));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Iterable<?>> allHaveViolations(
+          Class<V> constraintValidatorClass, Executor executor) {
+    return new BulkViolationsMatcher(
+        new HasViolationsMatcher<>(constraintValidatorClass), executor);
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Iterable<?>> allHaveViolations(String fieldName, Class<V> constraintValidatorClass) {
+    return new BulkViolationsMatcher(
+        new HasViolationsMatcher<>(constraintValidatorClass, fieldName));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Iterable<?>> allHaveViolations(
+          String fieldName, Class<V> constraintValidatorClass, Executor executor) {
+    return new BulkViolationsMatcher(
+        new HasViolationsMatcher<>(constraintValidatorClass, fieldName), executor);
+  }
+
+  public static Matcher<Object[]> arrayHasNoViolations() {
+    return new ArrayViolationsMatcher(new BulkViolationsMatcher(new HasNoViolationsMatcher<>()));
+  }
+
+  public static Matcher<Object[]> arrayHasNoViolations(Executor executor) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasNoViolationsMatcher<>(), executor));
+  }
+
+  public static Matcher<Object[]> arrayHasNoViolations(String field) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasNoViolationsMatcher<>(field)));
+  }
+
+  public static Matcher<Object[]> arrayHasNoViolations(String field, Executor executor) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasNoViolationsMatcher<>(field), executor));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Object[]> arrayHasViolations(Class<V> constraintValidatorClass) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasViolationsMatcher<>(constraintValidatorClass)));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Object[]> arrayHasViolations(Class<V> constraintValidatorClass, Executor executor) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasViolationsMatcher<>(constraintValidatorClass), executor));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Object[]> arrayHasViolations(String fieldName, Class<V> constraintValidatorClass) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(new HasViolationsMatcher<>(constraintValidatorClass, fieldName)));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      Matcher<Object[]> arrayHasViolations(
+          String fieldName, Class<V> constraintValidatorClass, Executor executor) {
+    return new ArrayViolationsMatcher(
+        new BulkViolationsMatcher(
+            new HasViolationsMatcher<>(constraintValidatorClass, fieldName), executor));
+  }
+
+  public static PublisherViolationsMatcher publisherHasNoViolations() {
+    return new PublisherViolationsMatcher(new HasNoViolationsMatcher<>());
+  }
+
+  public static PublisherViolationsMatcher publisherHasNoViolations(String field) {
+    return new PublisherViolationsMatcher(new HasNoViolationsMatcher<>(field));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      PublisherViolationsMatcher publisherHasViolations(Class<V> constraintValidatorClass) {
+    return new PublisherViolationsMatcher(new HasViolationsMatcher<>(constraintValidatorClass));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      PublisherViolationsMatcher publisherHasViolations(
+          String fieldName, Class<V> constraintValidatorClass) {
+    return new PublisherViolationsMatcher(
+        new HasViolationsMatcher<>(constraintValidatorClass, fieldName));
+  }
+
+  public static StreamingViolationsMatcher<Stream<?>> streamHasNoViolations() {
+    return streamed(new HasNoViolationsMatcher<>());
+  }
+
+  public static StreamingViolationsMatcher<Stream<?>> streamHasNoViolations(String field) {
+    return streamed(new HasNoViolationsMatcher<>(field));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      StreamingViolationsMatcher<Stream<?>> streamHasViolations(
+          Class<V> constraintValidatorClass) {
+    return streamed(new HasViolationsMatcher<>(constraintValidatorClass));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      StreamingViolationsMatcher<Stream<?>> streamHasViolations(
+          String fieldName, Class<V> constraintValidatorClass) {
+    return streamed(new HasViolationsMatcher<>(constraintValidatorClass, fieldName));
+  }
+
+  public static StreamingViolationsMatcher<Iterator<?>> iteratorHasNoViolations() {
+    return iterated(new HasNoViolationsMatcher<>());
+  }
+
+  public static StreamingViolationsMatcher<Iterator<?>> iteratorHasNoViolations(String field) {
+    return iterated(new HasNoViolationsMatcher<>(field));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      StreamingViolationsMatcher<Iterator<?>> iteratorHasViolations(
+          Class<V> constraintValidatorClass) {
+    return iterated(new HasViolationsMatcher<>(constraintValidatorClass));
+  }
+
+  public static <A extends Annotation, V extends ConstraintValidator<A, ?>>
+      StreamingViolationsMatcher<Iterator<?>> iteratorHasViolations(
+          String fieldName, Class<V> constraintValidatorClass) {
+    return iterated(new HasViolationsMatcher<>(constraintValidatorClass, fieldName));
+  }
+
+  public static <T> ConstraintProfileMatcher<T> constraintProfile(Class<T> type) {
+    return new ConstraintProfileMatcher<>(type);
+  }
+
+  public static <T> Matcher<Class<T>> matchesConstraintSnapshot() {
+    return matchesConstraintSnapshot(Paths.get("src", "test", "resources", "constraint-snapshots"));
+  }
+
+  public static <T> Matcher<Class<T>> matchesConstraintSnapshot(Path directory) {
+    return new ConstraintSnapshotMatcher<>(directory);
+  }
+
   public static <T> Matcher<Class<T>> hasAssertFalseAnnotation(String fieldName) {
-    return hasAssertFalseAnnotation(fieldName, AnnotationMap.from(AssertFalse.class));
+    return fieldAnnotation(AssertFalse.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasAssertFalseAnnotation(
@@ -90,7 +378,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasAssertTrueAnnotation(String fieldName) {
-    return hasAssertTrueAnnotation(fieldName, AnnotationMap.from(AssertTrue.class));
+    return fieldAnnotation(AssertTrue.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasAssertTrueAnnotation(
@@ -99,7 +387,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasCreditCardNumberAnnotation(String fieldName) {
-    return hasCreditCardNumberAnnotation(fieldName, AnnotationMap.from(CreditCardNumber.class));
+    return fieldAnnotation(CreditCardNumber.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasCreditCardNumberAnnotation(
@@ -108,15 +396,12 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMaxAnnotation(String fieldName, String value) {
-    return hasDecimalMaxAnnotation(
-        fieldName, AnnotationMap.from(DecimalMax.class).set(VALUE, value));
+    return fieldAnnotation(DecimalMax.class, fieldName, VALUE, value);
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMaxAnnotation(
       String fieldName, String value, boolean inclusive) {
-    return hasDecimalMaxAnnotation(
-        fieldName,
-        AnnotationMap.from(DecimalMax.class).set(VALUE, value).set("inclusive", inclusive));
+    return fieldAnnotation(DecimalMax.class, fieldName, VALUE, value, "inclusive", inclusive);
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMaxAnnotation(
@@ -125,15 +410,12 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMinAnnotation(String fieldName, String value) {
-    return hasDecimalMinAnnotation(
-        fieldName, AnnotationMap.from(DecimalMin.class).set(VALUE, value));
+    return fieldAnnotation(DecimalMin.class, fieldName, VALUE, value);
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMinAnnotation(
       String fieldName, String value, boolean inclusive) {
-    return hasDecimalMinAnnotation(
-        fieldName,
-        AnnotationMap.from(DecimalMin.class).set(VALUE, value).set("inclusive", inclusive));
+    return fieldAnnotation(DecimalMin.class, fieldName, VALUE, value, "inclusive", inclusive);
   }
 
   public static <T> Matcher<Class<T>> hasDecimalMinAnnotation(
@@ -143,9 +425,7 @@ public final class ValidationMatchers {
 
   public static <T> Matcher<Class<T>> hasDigitsAnnotation(
       String fieldName, int integer, int fraction) {
-    return hasDigitsAnnotation(
-        fieldName,
-        AnnotationMap.from(Digits.class).set("integer", integer).set("fraction", fraction));
+    return fieldAnnotation(Digits.class, fieldName, "integer", integer, "fraction", fraction);
   }
 
   public static <T> Matcher<Class<T>> hasDigitsAnnotation(
@@ -154,7 +434,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasEanAnnotation(String fieldName, Type type) {
-    return hasEanAnnotation(fieldName, AnnotationMap.from(EAN.class).set("type", type));
+    return fieldAnnotation(EAN.class, fieldName, "type", type);
   }
 
   public static <T> Matcher<Class<T>> hasEanAnnotation(
@@ -163,7 +443,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasEmailAnnotation(String fieldName) {
-    return hasEmailAnnotation(fieldName, AnnotationMap.from(Email.class));
+    return fieldAnnotation(Email.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasEmailAnnotation(
@@ -172,7 +452,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasFutureAnnotation(String fieldName) {
-    return hasFutureAnnotation(fieldName, AnnotationMap.from(Future.class));
+    return fieldAnnotation(Future.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasFutureAnnotation(
@@ -181,12 +461,11 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasLengthAnnotation(String fieldName, int min) {
-    return hasLengthAnnotation(fieldName, AnnotationMap.from(Length.class).set("min", min));
+    return fieldAnnotation(Length.class, fieldName, "min", min);
   }
 
   public static <T> Matcher<Class<T>> hasLengthAnnotation(String fieldName, int min, int max) {
-    return hasLengthAnnotation(
-        fieldName, AnnotationMap.from(Length.class).set("min", min).set("max", max));
+    return fieldAnnotation(Length.class, fieldName, "min", min, "max", max);
   }
 
   public static <T> Matcher<Class<T>> hasLengthAnnotation(
@@ -195,25 +474,26 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasLuhnCheckAnnotation(String fieldName, int startIndex) {
-    return hasLuhnCheckAnnotation(
-        fieldName, AnnotationMap.from(LuhnCheck.class).set(START_INDEX, startIndex));
+    return fieldAnnotation(LuhnCheck.class, fieldName, START_INDEX, startIndex);
   }
 
   public static <T> Matcher<Class<T>> hasLuhnCheckAnnotation(
       String fieldName, int startIndex, int endIndex) {
-    return hasLuhnCheckAnnotation(
-        fieldName,
-        AnnotationMap.from(LuhnCheck.class).set(START_INDEX, startIndex).set(END_INDEX, endIndex));
+    return fieldAnnotation(
+        LuhnCheck.class, fieldName, START_INDEX, startIndex, END_INDEX, endIndex);
   }
 
   public static <T> Matcher<Class<T>> hasLuhnCheckAnnotation(
       String fieldName, int startIndex, int endIndex, int checkDigitIndex) {
-    return hasLuhnCheckAnnotation(
+    return fieldAnnotation(
+        LuhnCheck.class,
         fieldName,
-        AnnotationMap.from(LuhnCheck.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex);
   }
 
   public static <T> Matcher<Class<T>> hasLuhnCheckAnnotation(
@@ -222,13 +502,17 @@ public final class ValidationMatchers {
       int endIndex,
       int checkDigitIndex,
       boolean ignoreNonDigitCharacters) {
-    return hasLuhnCheckAnnotation(
+    return fieldAnnotation(
+        LuhnCheck.class,
         fieldName,
-        AnnotationMap.from(LuhnCheck.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters);
   }
 
   public static <T> Matcher<Class<T>> hasLuhnCheckAnnotation(
@@ -237,7 +521,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasMaxAnnotation(String fieldName, long value) {
-    return hasMaxAnnotation(fieldName, AnnotationMap.from(Max.class).set(VALUE, value));
+    return fieldAnnotation(Max.class, fieldName, VALUE, value);
   }
 
   public static <T> Matcher<Class<T>> hasMaxAnnotation(
@@ -246,7 +530,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasMinAnnotation(String fieldName, long value) {
-    return hasMinAnnotation(fieldName, AnnotationMap.from(Min.class).set(VALUE, value));
+    return fieldAnnotation(Min.class, fieldName, VALUE, value);
   }
 
   public static <T> Matcher<Class<T>> hasMinAnnotation(
@@ -255,25 +539,26 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(String fieldName, int startIndex) {
-    return hasMod10CheckAnnotation(
-        fieldName, AnnotationMap.from(Mod10Check.class).set(START_INDEX, startIndex));
+    return fieldAnnotation(Mod10Check.class, fieldName, START_INDEX, startIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
       String fieldName, int startIndex, int endIndex) {
-    return hasMod10CheckAnnotation(
-        fieldName,
-        AnnotationMap.from(Mod10Check.class).set(START_INDEX, startIndex).set(END_INDEX, endIndex));
+    return fieldAnnotation(
+        Mod10Check.class, fieldName, START_INDEX, startIndex, END_INDEX, endIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
       String fieldName, int startIndex, int endIndex, int checkDigitIndex) {
-    return hasMod10CheckAnnotation(
+    return fieldAnnotation(
+        Mod10Check.class,
         fieldName,
-        AnnotationMap.from(Mod10Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
@@ -282,13 +567,17 @@ public final class ValidationMatchers {
       int endIndex,
       int checkDigitIndex,
       boolean ignoreNonDigitCharacters) {
-    return hasMod10CheckAnnotation(
+    return fieldAnnotation(
+        Mod10Check.class,
         fieldName,
-        AnnotationMap.from(Mod10Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
@@ -298,14 +587,19 @@ public final class ValidationMatchers {
       int checkDigitIndex,
       boolean ignoreNonDigitCharacters,
       int multiplier) {
-    return hasMod10CheckAnnotation(
+    return fieldAnnotation(
+        Mod10Check.class,
         fieldName,
-        AnnotationMap.from(Mod10Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set("multiplier", multiplier));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        "multiplier",
+        multiplier);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
@@ -316,15 +610,21 @@ public final class ValidationMatchers {
       boolean ignoreNonDigitCharacters,
       int multiplier,
       int weight) {
-    return hasMod10CheckAnnotation(
+    return fieldAnnotation(
+        Mod10Check.class,
         fieldName,
-        AnnotationMap.from(Mod10Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set("multiplier", multiplier)
-            .set("weight", weight));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        "multiplier",
+        multiplier,
+        "weight",
+        weight);
   }
 
   public static <T> Matcher<Class<T>> hasMod10CheckAnnotation(
@@ -333,25 +633,26 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(String fieldName, int startIndex) {
-    return hasMod11CheckAnnotation(
-        fieldName, AnnotationMap.from(Mod11Check.class).set(START_INDEX, startIndex));
+    return fieldAnnotation(Mod11Check.class, fieldName, START_INDEX, startIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
       String fieldName, int startIndex, int endIndex) {
-    return hasMod11CheckAnnotation(
-        fieldName,
-        AnnotationMap.from(Mod11Check.class).set(START_INDEX, startIndex).set(END_INDEX, endIndex));
+    return fieldAnnotation(
+        Mod11Check.class, fieldName, START_INDEX, startIndex, END_INDEX, endIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
       String fieldName, int startIndex, int endIndex, int checkDigitIndex) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -360,13 +661,17 @@ public final class ValidationMatchers {
       int endIndex,
       int checkDigitIndex,
       boolean ignoreNonDigitCharacters) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -376,14 +681,19 @@ public final class ValidationMatchers {
       int checkDigitIndex,
       boolean ignoreNonDigitCharacters,
       int threshold) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set(THRESHOLD, threshold));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        THRESHOLD,
+        threshold);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -394,15 +704,21 @@ public final class ValidationMatchers {
       boolean ignoreNonDigitCharacters,
       int threshold,
       char treatCheck10As) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set(THRESHOLD, threshold)
-            .set(TREAT_CHECK_10_AS, treatCheck10As));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        THRESHOLD,
+        threshold,
+        TREAT_CHECK_10_AS,
+        treatCheck10As);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -414,16 +730,23 @@ public final class ValidationMatchers {
       int threshold,
       char treatCheck10As,
       char treatCheck11As) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set(THRESHOLD, threshold)
-            .set(TREAT_CHECK_10_AS, treatCheck10As)
-            .set("treatCheck11As", treatCheck11As));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        THRESHOLD,
+        threshold,
+        TREAT_CHECK_10_AS,
+        treatCheck10As,
+        "treatCheck11As",
+        treatCheck11As);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -436,17 +759,25 @@ public final class ValidationMatchers {
       char treatCheck10As,
       char treatCheck11As,
       ProcessingDirection processingDirection) {
-    return hasMod11CheckAnnotation(
+    return fieldAnnotation(
+        Mod11Check.class,
         fieldName,
-        AnnotationMap.from(Mod11Check.class)
-            .set(START_INDEX, startIndex)
-            .set(END_INDEX, endIndex)
-            .set(CHECK_DIGIT_INDEX, checkDigitIndex)
-            .set(IGNORE_NON_DIGIT_CHARACTERS, ignoreNonDigitCharacters)
-            .set(THRESHOLD, threshold)
-            .set(TREAT_CHECK_10_AS, treatCheck10As)
-            .set("treatCheck11As", treatCheck11As)
-            .set("processingDirection", processingDirection));
+        START_INDEX,
+        startIndex,
+        END_INDEX,
+        endIndex,
+        CHECK_DIGIT_INDEX,
+        checkDigitIndex,
+        IGNORE_NON_DIGIT_CHARACTERS,
+        ignoreNonDigitCharacters,
+        THRESHOLD,
+        threshold,
+        TREAT_CHECK_10_AS,
+        treatCheck10As,
+        "treatCheck11As",
+        treatCheck11As,
+        "processingDirection",
+        processingDirection);
   }
 
   public static <T> Matcher<Class<T>> hasMod11CheckAnnotation(
@@ -455,7 +786,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasNotBlankAnnotation(String fieldName) {
-    return hasNotBlankAnnotation(fieldName, AnnotationMap.from(NotBlank.class));
+    return fieldAnnotation(NotBlank.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasNotBlankAnnotation(
@@ -464,7 +795,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasNotEmptyAnnotation(String fieldName) {
-    return hasNotEmptyAnnotation(fieldName, AnnotationMap.from(NotEmpty.class));
+    return fieldAnnotation(NotEmpty.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasNotEmptyAnnotation(
@@ -473,7 +804,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasNotNullAnnotation(String fieldName) {
-    return hasNotNullAnnotation(fieldName, AnnotationMap.from(NotNull.class));
+    return fieldAnnotation(NotNull.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasNotNullAnnotation(
@@ -482,7 +813,7 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasPastAnnotation(String fieldName) {
-    return hasPastAnnotation(fieldName, AnnotationMap.from(Past.class));
+    return fieldAnnotation(Past.class, fieldName);
   }
 
   public static <T> Matcher<Class<T>> hasPastAnnotation(
@@ -491,13 +822,12 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasPatternAnnotation(String fieldName, String regexp) {
-    return hasPatternAnnotation(fieldName, AnnotationMap.from(Pattern.class).set("regexp", regexp));
+    return fieldAnnotation(Pattern.class, fieldName, "regexp", regexp);
   }
 
   public static <T> Matcher<Class<T>> hasPatternAnnotation(
       String fieldName, String regexp, Flag... flags) {
-    return hasPatternAnnotation(
-        fieldName, AnnotationMap.from(Pattern.class).set("regexp", regexp).set("flags", flags));
+    return fieldAnnotation(Pattern.class, fieldName, "regexp", regexp, "flags", flags);
   }
 
   public static <T> Matcher<Class<T>> hasPatternAnnotation(
@@ -506,12 +836,11 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasRangeAnnotation(String fieldName, long min) {
-    return hasRangeAnnotation(fieldName, AnnotationMap.from(Range.class).set("min", min));
+    return fieldAnnotation(Range.class, fieldName, "min", min);
   }
 
   public static <T> Matcher<Class<T>> hasRangeAnnotation(String fieldName, long min, long max) {
-    return hasRangeAnnotation(
-        fieldName, AnnotationMap.from(Range.class).set("min", min).set("max", max));
+    return fieldAnnotation(Range.class, fieldName, "min", min, "max", max);
   }
 
   public static <T> Matcher<Class<T>> hasRangeAnnotation(
@@ -521,17 +850,18 @@ public final class ValidationMatchers {
 
   public static <T> Matcher<Class<T>> hasSafeHtmlAnnotation(
       String fieldName, WhiteListType whitelistType) {
-    return hasSafeHtmlAnnotation(
-        fieldName, AnnotationMap.from(SafeHtml.class).set("whitelistType", whitelistType));
+    return fieldAnnotation(SafeHtml.class, fieldName, "whitelistType", whitelistType);
   }
 
   public static <T> Matcher<Class<T>> hasSafeHtmlAnnotation(
       String fieldName, WhiteListType whitelistType, String... additionalTags) {
-    return hasSafeHtmlAnnotation(
+    return fieldAnnotation(
+        SafeHtml.class,
         fieldName,
-        AnnotationMap.from(SafeHtml.class)
-            .set("whitelistType", whitelistType)
-            .set("additionalTags", additionalTags));
+        "whitelistType",
+        whitelistType,
+        "additionalTags",
+        additionalTags);
   }
 
   public static <T> Matcher<Class<T>> hasSafeHtmlAnnotation(
@@ -540,17 +870,12 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasScriptAssertAnnotation(String script, String lang) {
-    return hasScriptAssertAnnotation(
-        AnnotationMap.from(ScriptAssert.class).set("script", script).set("lang", lang));
+    return typeAnnotation(ScriptAssert.class, "script", script, "lang", lang);
   }
 
   public static <T> Matcher<Class<T>> hasScriptAssertAnnotation(
       String script, String lang, String alias) {
-    return hasScriptAssertAnnotation(
-        AnnotationMap.from(ScriptAssert.class)
-            .set("script", script)
-            .set("lang", lang)
-            .set("alias", alias));
+    return typeAnnotation(ScriptAssert.class, "script", script, "lang", lang, "alias", alias);
   }
 
   public static <T> Matcher<Class<T>> hasScriptAssertAnnotation(
@@ -559,12 +884,11 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasSizeAnnotation(String fieldName, int min) {
-    return hasSizeAnnotation(fieldName, AnnotationMap.from(Size.class).set("min", min));
+    return fieldAnnotation(Size.class, fieldName, "min", min);
   }
 
   public static <T> Matcher<Class<T>> hasSizeAnnotation(String fieldName, int min, int max) {
-    return hasSizeAnnotation(
-        fieldName, AnnotationMap.from(Size.class).set("min", min).set("max", max));
+    return fieldAnnotation(Size.class, fieldName, "min", min, "max", max);
   }
 
   public static <T> Matcher<Class<T>> hasSizeAnnotation(
@@ -573,20 +897,17 @@ public final class ValidationMatchers {
   }
 
   public static <T> Matcher<Class<T>> hasUrlAnnotation(String fieldName, String protocol) {
-    return hasUrlAnnotation(fieldName, AnnotationMap.from(URL.class).set(PROTOCOL, protocol));
+    return fieldAnnotation(URL.class, fieldName, PROTOCOL, protocol);
   }
 
   public static <T> Matcher<Class<T>> hasUrlAnnotation(
       String fieldName, String protocol, String host) {
-    return hasUrlAnnotation(
-        fieldName, AnnotationMap.from(URL.class).set(PROTOCOL, protocol).set("host", host));
+    return fieldAnnotation(URL.class, fieldName, PROTOCOL, protocol, "host", host);
   }
 
   public static <T> Matcher<Class<T>> hasUrlAnnotation(
       String fieldName, String protocol, String host, int port) {
-    return hasUrlAnnotation(
-        fieldName,
-        AnnotationMap.from(URL.class).set(PROTOCOL, protocol).set("host", host).set("port", port));
+    return fieldAnnotation(URL.class, fieldName, PROTOCOL, protocol, "host", host, "port", port);
   }
 
   public static <T> Matcher<Class<T>> hasUrlAnnotation(
@@ -594,14 +915,61 @@ public final class ValidationMatchers {
     return hasFieldAnnotation(fieldName, urlAnnotation);
   }
 
+  public static CompletableFuture<Void> prewarm(Class<?>... types) {
+    return prewarm(ForkJoinPool.commonPool(), types);
+  }
+
+  public static CompletableFuture<Void> prewarm(Executor executor, Class<?>... types) {
+    return ConstraintPrewarmer.prewarm(Arrays.asList(types), executor);
+  }
+
+  public static CompletableFuture<Void> prewarmPackage(String packageName) {
+    return prewarmPackage(packageName, ForkJoinPool.commonPool());
+  }
+
+  public static CompletableFuture<Void> prewarmPackage(String packageName, Executor executor) {
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    return CompletableFuture.supplyAsync(
+            () -> ConstraintPrewarmer.classesIn(packageName, loader), executor)
+        .thenCompose(types -> ConstraintPrewarmer.prewarm(types, executor));
+  }
+
+  private static StreamingViolationsMatcher<Stream<?>> streamed(
+      AbstractViolationsMatcher<Object> itemMatcher) {
+    return new StreamingViolationsMatcher<>(Stream.class, Stream::iterator, itemMatcher);
+  }
+
+  private static StreamingViolationsMatcher<Iterator<?>> iterated(
+      AbstractViolationsMatcher<Object> itemMatcher) {
+    return new StreamingViolationsMatcher<>(Iterator.class, iterator -> iterator, itemMatcher);
+  }
+
   private static <A extends Annotation, T> Matcher<Class<T>> hasFieldAnnotation(
       String fieldName, AnnotationMap<A> annotationMap) {
-    return new FieldAnnotationMatcher<>(fieldName, annotationMap);
+    Matcher<Class<T>> matcher = new FieldAnnotationMatcher<>(fieldName, annotationMap);
+    return new InstrumentedAnnotationMatcher<>(matcher);
   }
 
   private static <A extends Annotation, T> Matcher<Class<T>> hasTypeAnnotation(
       AnnotationMap<A> annotationMap) {
-    return new TypeAnnotationMatcher<>(annotationMap);
+    Matcher<Class<T>> matcher = new TypeAnnotationMatcher<>(annotationMap);
+    return new InstrumentedAnnotationMatcher<>(matcher);
+  }
+
+  private static <A extends Annotation, T> Matcher<Class<T>> fieldAnnotation(
+      Class<A> annotationType, String fieldName, Object... attributes) {
+    Matcher<Class<T>> matcher =
+        new AnnotationExpectationMatcher<>(
+            AnnotationExpectation.onField(annotationType, fieldName, attributes));
+    return new InstrumentedAnnotationMatcher<>(matcher);
+  }
+
+  private static <A extends Annotation, T> Matcher<Class<T>> typeAnnotation(
+      Class<A> annotationType, Object... attributes) {
+    Matcher<Class<T>> matcher =
+        new AnnotationExpectationMatcher<>(
+            AnnotationExpectation.onType(annotationType, attributes));
+    return new InstrumentedAnnotationMatcher<>(matcher);
   }
 
   private ValidationMatchers() {
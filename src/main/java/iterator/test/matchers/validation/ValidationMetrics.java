@@ -0,0 +1,171 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ValidationMetrics {
+
+  public static final String ENABLED_PROPERTY = "iterator.validation.metrics";
+
+  public static final String REPORT_PROPERTY = "iterator.validation.metrics.report";
+
+  private static final String CSV_HEADER =
+      "type,validations,validationNanos,violations,annotationChecks,annotationNanos";
+
+  private static final ConcurrentMap<Class<?>, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+  private static volatile boolean enabled =
+      Boolean.getBoolean(ENABLED_PROPERTY) || System.getProperty(REPORT_PROPERTY) != null;
+
+  static {
+    String report = System.getProperty(REPORT_PROPERTY);
+    if (report != null) {
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(() -> writeReport(Paths.get(report)), "validation-metrics"));
+    }
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void enable() {
+    enabled = true;
+  }
+
+  public static void disable() {
+    enabled = false;
+  }
+
+  public static void reset() {
+    COUNTERS.clear();
+  }
+
+  static void recordValidation(Class<?> type, long nanos, int violations) {
+    Counters counters = countersOf(type);
+    counters.validations.increment();
+    counters.validationNanos.add(nanos);
+    counters.violations.add(violations);
+  }
+
+  static void recordAnnotationCheck(Class<?> type, long nanos) {
+    Counters counters = countersOf(type);
+    counters.annotationChecks.increment();
+    counters.annotationNanos.add(nanos);
+  }
+
+  public static String toJson() {
+    StringBuilder json = new StringBuilder("{\"beans\":[");
+    String separator = "";
+    for (Map.Entry<Class<?>, Counters> entry : slowestFirst()) {
+      Counters counters = entry.getValue();
+      json.append(separator)
+          .append("{\"type\":\"")
+          .append(entry.getKey().getName())
+          .append("\",\"validations\":")
+          .append(counters.validations.sum())
+          .append(",\"validationNanos\":")
+          .append(counters.validationNanos.sum())
+          .append(",\"violations\":")
+          .append(counters.violations.sum())
+          .append(",\"annotationChecks\":")
+          .append(counters.annotationChecks.sum())
+          .append(",\"annotationNanos\":")
+          .append(counters.annotationNanos.sum())
+          .append('}');
+      separator = ",";
+    }
+    return json.append("]}").toString();
+  }
+
+  public static String toCsv() {
+    StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+    for (Map.Entry<Class<?>, Counters> entry : slowestFirst()) {
+      Counters counters = entry.getValue();
+      csv.append(entry.getKey().getName())
+          .append(',')
+          .append(counters.validations.sum())
+          .append(',')
+          .append(counters.validationNanos.sum())
+          .append(',')
+          .append(counters.violations.sum())
+          .append(',')
+          .append(counters.annotationChecks.sum())
+          .append(',')
+          .append(counters.annotationNanos.sum())
+          .append('\n');
+    }
+    return csv.toString();
+  }
+
+  public static void writeReport(Path file) {
+    String report = file.toString().endsWith(".csv") ? toCsv() : toJson();
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      Files.write(file, report.getBytes(UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Counters countersOf(Class<?> type) {
+    return COUNTERS.computeIfAbsent(type, k -> new Counters());
+  }
+
+  private static List<Map.Entry<Class<?>, Counters>> slowestFirst() {
+    List<Map.Entry<Class<?>, Counters>> entries = new ArrayList<>(COUNTERS.entrySet());
+    entries.sort(
+        Comparator.comparingLong(
+                (Map.Entry<Class<?>, Counters> entry) ->
+                    entry.getValue().validationNanos.sum() + entry.getValue().annotationNanos.sum())
+            .reversed()
+            .thenComparing(entry -> entry.getKey().getName()));
+    return entries;
+  }
+
+  private static final class Counters {
+
+    private final LongAdder validations = new LongAdder();
+
+    private final LongAdder validationNanos = new LongAdder();
+
+    private final LongAdder violations = new LongAdder();
+
+    private final LongAdder annotationChecks = new LongAdder();
+
+    private final LongAdder annotationNanos = new LongAdder();
+  }
+
+  private ValidationMetrics() {
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+public class ValidationMetricsExtension implements BeforeAllCallback {
+
+  private static final Namespace NAMESPACE = Namespace.create(ValidationMetricsExtension.class);
+
+  private static final String DEFAULT_REPORT = "target/validation-metrics.json";
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    ValidationMetrics.enable();
+    String report =
+        context.getConfigurationParameter(ValidationMetrics.REPORT_PROPERTY).orElse(DEFAULT_REPORT);
+    // the root store is closed once the whole engine run has finished
+    context
+        .getRoot()
+        .getStore(NAMESPACE)
+        .getOrComputeIfAbsent(Report.class, k -> new Report(Paths.get(report)));
+  }
+
+  private static final class Report implements ExtensionContext.Store.CloseableResource {
+
+    private final Path file;
+
+    private Report(Path file) {
+      this.file = file;
+    }
+
+    @Override
+    public void close() {
+      ValidationMetrics.writeReport(file);
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+public final class ValidationResultCache {
+
+  public static final String SIZE_PROPERTY = "iterator.validation.cache.size";
+
+  private static final Set<Class<?>> REGISTERED_IMMUTABLE = ConcurrentHashMap.newKeySet();
+
+  // a registered type is immutable itself, but unlike @ImmutableFixture that says nothing of its
+  // subclasses, which may add mutable state
+  private static final ClassValue<Boolean> MARKED_IMMUTABLE =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          return type.isAnnotationPresent(ImmutableFixture.class)
+              || REGISTERED_IMMUTABLE.contains(type);
+        }
+      };
+
+  private static volatile Cache cache =
+      Integer.getInteger(SIZE_PROPERTY, 0) > 0
+          ? new Cache(Integer.getInteger(SIZE_PROPERTY), false)
+          : null;
+
+  public static void enable(int maximumSize) {
+    cache = new Cache(maximumSize, false);
+  }
+
+  public static void enableForAllInstances(int maximumSize) {
+    cache = new Cache(maximumSize, true);
+  }
+
+  public static void registerImmutable(Class<?>... types) {
+    for (Class<?> type : types) {
+      REGISTERED_IMMUTABLE.add(type);
+      MARKED_IMMUTABLE.remove(type);
+    }
+  }
+
+  public static void disable() {
+    cache = null;
+  }
+
+  public static boolean isEnabled() {
+    return cache != null;
+  }
+
+  public static long hitCount() {
+    Cache c = cache;
+    return c == null ? 0 : c.hits.sum();
+  }
+
+  public static long missCount() {
+    Cache c = cache;
+    return c == null ? 0 : c.misses.sum();
+  }
+
+  public static long evictionCount() {
+    Cache c = cache;
+    return c == null ? 0 : c.evictions.sum();
+  }
+
+  public static int size() {
+    Cache c = cache;
+    if (c == null) {
+      return 0;
+    }
+    synchronized (c) {
+      c.purge();
+      return c.entries.size();
+    }
+  }
+
+  static boolean accepts(Object item) {
+    Cache c = cache;
+    return c != null && (c.allInstances || MARKED_IMMUTABLE.get(item.getClass()));
+  }
+
+  // the result is validated outside the lock, so two threads missing on the same item at once
+  // may both validate it, which is cheaper than serialising every validation behind the cache
+  @SuppressWarnings("unchecked")
+  static <T> Set<ConstraintViolation<T>> get(
+      T item, List<Class<?>> groups, Supplier<Set<ConstraintViolation<T>>> validation) {
+    Cache c = cache;
+    if (c == null) {
+      return validation.get();
+    }
+    Validator validator = ValidatorFactoryHolder.getValidator();
+    Key lookup = new Key(item, null);
+    synchronized (c) {
+      c.purge();
+      Results results = c.entries.get(lookup);
+      if (results != null && results.validator == validator) {
+        Set<?> violations = results.byGroups.get(groups);
+        if (violations != null) {
+          c.hits.increment();
+          return (Set<ConstraintViolation<T>>) violations;
+        }
+      }
+    }
+    c.misses.increment();
+    Set<ConstraintViolation<T>> violations = validation.get();
+    if (!violations.isEmpty()) {
+      // violations reference their root and leaf beans, so caching them would keep the weakly
+      // held item alive; only the absence of violations is remembered
+      return violations;
+    }
+    synchronized (c) {
+      Results results = c.entries.get(lookup);
+      if (results == null || results.validator != validator) {
+        results = new Results(validator);
+        c.entries.put(new Key(item, c.queue), results);
+      }
+      results.byGroups.put(groups, Collections.emptySet());
+    }
+    return violations;
+  }
+
+  private static final class Cache {
+
+    private final boolean allInstances;
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    private final LinkedHashMap<Key, Results> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private Cache(int maximumSize, boolean allInstances) {
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("maximum size must be positive but was " + maximumSize);
+      }
+      this.allInstances = allInstances;
+      this.entries =
+          new LinkedHashMap<Key, Results>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Results> eldest) {
+              if (size() > maximumSize) {
+                evictions.increment();
+                return true;
+              }
+              return false;
+            }
+          };
+    }
+
+    private void purge() {
+      for (Reference<?> key = queue.poll(); key != null; key = queue.poll()) {
+        entries.remove(key);
+      }
+    }
+  }
+
+  private static final class Key extends WeakReference<Object> {
+
+    private final int hash;
+
+    private Key(Object item, ReferenceQueue<Object> queue) {
+      super(item, queue);
+      hash = System.identityHashCode(item);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Object item = get();
+      return item != null && item == ((Key) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class Results {
+
+    private final Validator validator;
+
+    private final Map<List<Class<?>>, Set<?>> byGroups = new HashMap<>();
+
+    private Results(Validator validator) {
+      this.validator = validator;
+    }
+  }
+
+  private ValidationResultCache() {
+    throw new IllegalStateException();
+  }
+}
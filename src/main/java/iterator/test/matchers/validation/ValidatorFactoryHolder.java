@@ -0,0 +1,125 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidatorFactory;
+
+public final class ValidatorFactoryHolder {
+
+  private static final Object LOCK = new Object();
+
+  private static volatile Holder holder;
+
+  public static ValidatorFactory getValidatorFactory() {
+    return holder().factory;
+  }
+
+  public static Validator getValidator() {
+    return holder().validator;
+  }
+
+  public static Validator getFailFastValidator() {
+    return holder().failFastValidator;
+  }
+
+  static ConstraintMetadata getConstraintMetadata(Class<?> type) {
+    return holder().metadata.get(type);
+  }
+
+  static boolean isCurrent(ValidatorFactory validatorFactory) {
+    Holder h = holder;
+    return h != null && h.factory == validatorFactory;
+  }
+
+  public static void setValidatorFactory(ValidatorFactory validatorFactory) {
+    synchronized (LOCK) {
+      Holder previous = holder;
+      holder = validatorFactory == null ? null : new Holder(validatorFactory, false);
+      closeIfOwned(previous);
+    }
+  }
+
+  public static void close() {
+    synchronized (LOCK) {
+      Holder previous = holder;
+      holder = null;
+      // a supplied factory belongs to whoever supplied it, as in setValidatorFactory
+      closeIfOwned(previous);
+    }
+  }
+
+  private static Holder holder() {
+    Holder h = holder;
+    if (h == null) {
+      synchronized (LOCK) {
+        h = holder;
+        if (h == null) {
+          h = new Holder(Validation.buildDefaultValidatorFactory(), true);
+          holder = h;
+        }
+      }
+    }
+    return h;
+  }
+
+  private static void closeIfOwned(Holder h) {
+    if (h != null && h.owned) {
+      h.factory.close();
+    }
+  }
+
+  private static final class Holder {
+
+    private final ValidatorFactory factory;
+
+    private final Validator validator;
+
+    private final Validator failFastValidator;
+
+    private final ClassValue<ConstraintMetadata> metadata;
+
+    private final boolean owned;
+
+    private Holder(ValidatorFactory factory, boolean owned) {
+      this.factory = factory;
+      this.validator = factory.getValidator();
+      this.failFastValidator = failFast(factory, validator);
+      this.metadata = ConstraintMetadata.cache(validator);
+      this.owned = owned;
+    }
+
+    private static Validator failFast(ValidatorFactory factory, Validator fallback) {
+      try {
+        return factory
+            .unwrap(HibernateValidatorFactory.class)
+            .usingContext()
+            .failFast(true)
+            .getValidator();
+      } catch (ValidationException e) {
+        // not a hibernate factory, so every violation is collected
+        return fallback;
+      }
+    }
+  }
+
+  private ValidatorFactoryHolder() {
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+
+final class ViolatedConstraints extends AbstractList<Class<? extends ConstraintValidator>> {
+
+  private final Set<? extends ConstraintViolation<?>> violations;
+
+  private final String property;
+
+  private final PathPattern pattern;
+
+  private ViolationIndex index;
+
+  private List<ConstraintViolation<?>> matching;
+
+  private List<Class<? extends ConstraintValidator>> validators;
+
+  ViolatedConstraints(Set<? extends ConstraintViolation<?>> violations, String property) {
+    this(violations, property, null);
+  }
+
+  ViolatedConstraints(Set<? extends ConstraintViolation<?>> violations, PathPattern pattern) {
+    this(violations, null, pattern);
+  }
+
+  private ViolatedConstraints(
+      Set<? extends ConstraintViolation<?>> violations, String property, PathPattern pattern) {
+    this.violations = violations;
+    this.property = property;
+    this.pattern = pattern;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (ConstraintViolation<?> violation : candidates()) {
+      if (accepts(violation) && !validatorsOf(violation).isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object validator) {
+    for (ConstraintViolation<?> violation : candidates()) {
+      if (accepts(violation)) {
+        List<? extends Class<? extends ConstraintValidator>> candidates = validatorsOf(violation);
+        for (int i = 0; i < candidates.size(); i++) {
+          if (candidates.get(i) == validator) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Class<? extends ConstraintValidator> get(int index) {
+    return validators().get(index);
+  }
+
+  @Override
+  public int size() {
+    return validators().size();
+  }
+
+  private List<Class<? extends ConstraintValidator>> validators() {
+    if (validators == null) {
+      List<Class<? extends ConstraintValidator>> list = new ArrayList<>();
+      for (ConstraintViolation<?> violation : candidates()) {
+        if (accepts(violation)) {
+          list.addAll(validatorsOf(violation));
+        }
+      }
+      validators = list;
+    }
+    return validators;
+  }
+
+  boolean containsConstraint(Class<? extends Annotation> annotationType) {
+    for (ConstraintViolation<?> violation : candidates()) {
+      if (accepts(violation) && annotationTypeOf(violation) == annotationType) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  List<Class<? extends Annotation>> constraints() {
+    List<Class<? extends Annotation>> constraints = new ArrayList<>();
+    for (ConstraintViolation<?> violation : candidates()) {
+      if (accepts(violation)) {
+        constraints.add(annotationTypeOf(violation));
+      }
+    }
+    return constraints;
+  }
+
+  List<ConstraintViolation<?>> violations() {
+    List<ConstraintViolation<?>> accepted = new ArrayList<>();
+    for (ConstraintViolation<?> violation : candidates()) {
+      if (accepts(violation)) {
+        accepted.add(violation);
+      }
+    }
+    return accepted;
+  }
+
+  ViolationIndex index() {
+    if (index == null) {
+      index = new ViolationIndex(violations);
+    }
+    return index;
+  }
+
+  private Iterable<? extends ConstraintViolation<?>> candidates() {
+    if (pattern == null) {
+      return violations;
+    }
+    if (matching == null) {
+      matching = index().matching(pattern);
+    }
+    return matching;
+  }
+
+  private boolean accepts(ConstraintViolation<?> violation) {
+    if (property == null) {
+      return true;
+    }
+    Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+    if (!nodes.hasNext()) {
+      return false;
+    }
+    Path.Node node = nodes.next();
+    return !nodes.hasNext() && !node.isInIterable() && property.equals(node.getName());
+  }
+
+  private static Class<? extends Annotation> annotationTypeOf(ConstraintViolation<?> violation) {
+    return violation.getConstraintDescriptor().getAnnotation().annotationType();
+  }
+
+  private static List<? extends Class<? extends ConstraintValidator>> validatorsOf(
+      ConstraintViolation<?> violation) {
+    return violation.getConstraintDescriptor().getConstraintValidatorClasses();
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.List;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintViolation;
+
+public final class ViolationExpectation {
+
+  private final String path;
+
+  private final PathPattern pattern;
+
+  private final Class<? extends ConstraintValidator> validator;
+
+  ViolationExpectation(String path, Class<? extends ConstraintValidator> validator) {
+    this.path = path;
+    this.pattern = PathPattern.compile(path);
+    this.validator = validator;
+  }
+
+  PathPattern pattern() {
+    return pattern;
+  }
+
+  boolean isMetBy(ConstraintViolation<?> violation) {
+    List<? extends Class<? extends ConstraintValidator>> validators =
+        violation.getConstraintDescriptor().getConstraintValidatorClasses();
+    for (int i = 0; i < validators.size(); i++) {
+      if (validators.get(i) == validator) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return validator.getSimpleName() + " on \"" + path + "\"";
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+
+// splits every violation's path into names and indices once, so checking many path patterns
+// against one validation result never rebuilds or re-parses path strings
+final class ViolationIndex {
+
+  private final List<Entry> entries = new ArrayList<>();
+
+  private final Map<String, List<Entry>> byFirstName = new HashMap<>();
+
+  ViolationIndex(Set<? extends ConstraintViolation<?>> violations) {
+    for (ConstraintViolation<?> violation : violations) {
+      Entry entry = new Entry(violation);
+      entries.add(entry);
+      if (entry.names.length > 0) {
+        byFirstName.computeIfAbsent(entry.names[0], k -> new ArrayList<>()).add(entry);
+      }
+    }
+  }
+
+  List<ConstraintViolation<?>> all() {
+    List<ConstraintViolation<?>> all = new ArrayList<>(entries.size());
+    for (Entry entry : entries) {
+      all.add(entry.violation);
+    }
+    return all;
+  }
+
+  List<ConstraintViolation<?>> matching(PathPattern pattern) {
+    String firstName = pattern.firstName();
+    List<Entry> candidates =
+        firstName == null
+            ? entries
+            : byFirstName.getOrDefault(firstName, Collections.emptyList());
+    List<ConstraintViolation<?>> matching = new ArrayList<>();
+    for (Entry entry : candidates) {
+      if (pattern.matches(entry.names, entry.indices)) {
+        matching.add(entry.violation);
+      }
+    }
+    return matching;
+  }
+
+  private static final class Entry {
+
+    private final ConstraintViolation<?> violation;
+
+    private final String[] names;
+
+    private final String[] indices;
+
+    private Entry(ConstraintViolation<?> violation) {
+      this.violation = violation;
+      List<String> nodeNames = new ArrayList<>();
+      List<String> nodeIndices = new ArrayList<>();
+      for (Path.Node node : violation.getPropertyPath()) {
+        // a node's index or key locates it in the container named by the node before it
+        if (node.isInIterable() && !nodeIndices.isEmpty()) {
+          nodeIndices.set(nodeIndices.size() - 1, indexOf(node));
+        }
+        if (node.getName() != null) {
+          nodeNames.add(node.getName());
+          nodeIndices.add(null);
+        }
+      }
+      names = nodeNames.toArray(new String[0]);
+      indices = nodeIndices.toArray(new String[0]);
+    }
+
+    private static String indexOf(Path.Node node) {
+      if (node.getIndex() != null) {
+        return node.getIndex().toString();
+      }
+      return node.getKey() == null ? "" : node.getKey().toString();
+    }
+  }
+}
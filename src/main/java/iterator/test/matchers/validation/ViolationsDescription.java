@@ -0,0 +1,106 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintViolation;
+import org.hamcrest.Description;
+
+final class ViolationsDescription {
+
+  static final String LIMIT_PROPERTY = "iterator.validation.mismatch.limit";
+
+  static final int DEFAULT_LIMIT = 10;
+
+  private static final int LIMIT = Integer.getInteger(LIMIT_PROPERTY, DEFAULT_LIMIT);
+
+  private static final Comparator<ConstraintViolation<?>> BY_CONSTRAINT =
+      Comparator.comparing((ConstraintViolation<?> violation) -> annotationName(violation))
+          .thenComparing(ConstraintViolation::getMessage);
+
+  static void describeViolated(
+      Description description, List<Class<? extends ConstraintValidator>> actualViolations) {
+    if (actualViolations instanceof ViolatedConstraints) {
+      describe(description, ((ViolatedConstraints) actualViolations).violations());
+    } else {
+      description.appendText("violated constraints ").appendValue(actualViolations);
+    }
+  }
+
+  static void describe(
+      Description description, Collection<? extends ConstraintViolation<?>> violations) {
+    describe(description, violations, LIMIT);
+  }
+
+  // renders straight into the description, so nothing is built unless a mismatch is described
+  // and no more than limit violations are ever rendered however many there are
+  static void describe(
+      Description description, Collection<? extends ConstraintViolation<?>> violations, int limit) {
+    Map<String, List<ConstraintViolation<?>>> byPath = new TreeMap<>();
+    for (ConstraintViolation<?> violation : violations) {
+      byPath
+          .computeIfAbsent(violation.getPropertyPath().toString(), k -> new ArrayList<>())
+          .add(violation);
+    }
+    int size = violations.size();
+    description.appendText("violated " + size + (size == 1 ? " constraint: " : " constraints: "));
+    int rendered = 0;
+    String separator = "";
+    for (Map.Entry<String, List<ConstraintViolation<?>>> entry : byPath.entrySet()) {
+      if (rendered == limit) {
+        break;
+      }
+      List<ConstraintViolation<?>> onPath = entry.getValue();
+      onPath.sort(BY_CONSTRAINT);
+      description
+          .appendText(separator)
+          .appendText(entry.getKey().isEmpty() ? "<bean>" : entry.getKey())
+          .appendText(" (" + onPath.size() + ") [");
+      for (int i = 0; i < onPath.size() && rendered < limit; i++, rendered++) {
+        describe(description.appendText(i == 0 ? "" : ", "), onPath.get(i));
+      }
+      description.appendText("]");
+      separator = ", ";
+    }
+    if (rendered < size) {
+      description.appendText(" and " + (size - rendered) + " more");
+    }
+  }
+
+  private static void describe(Description description, ConstraintViolation<?> violation) {
+    description
+        .appendText("@" + annotationName(violation) + " ")
+        .appendValue(violation.getMessage());
+    // class level constraints report the whole bean as invalid, which says nothing useful
+    if (violation.getInvalidValue() != violation.getLeafBean()) {
+      description.appendText(" was ").appendValue(violation.getInvalidValue());
+    }
+  }
+
+  private static String annotationName(ConstraintViolation<?> violation) {
+    return violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+  }
+
+  private ViolationsDescription() {
+    throw new IllegalStateException();
+  }
+}
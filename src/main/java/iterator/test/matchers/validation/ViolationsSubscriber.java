@@ -0,0 +1,193 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.validation.ConstraintValidator;
+
+// never has more than concurrency items requested but not yet validated, so however many items
+// are published only that many are held at once and the publisher is slowed to the validators
+final class ViolationsSubscriber implements Flow.Subscriber<Object> {
+
+  private final AbstractViolationsMatcher<Object> itemMatcher;
+
+  private final Executor executor;
+
+  private final int concurrency;
+
+  private final boolean failFast;
+
+  private final ViolationsSummary summary = new ViolationsSummary(itemMatcher);
+
+  private final CompletableFuture<ViolationsSummary> result = new CompletableFuture<>();
+
+  private final AtomicLong pending = new AtomicLong();
+
+  private final AtomicLong requested = new AtomicLong();
+
+  private final AtomicInteger signalling = new AtomicInteger();
+
+  private volatile Flow.Subscription subscription;
+
+  private volatile boolean cancelled;
+
+  // only read and written by the thread draining signals
+  private boolean cancelSent;
+
+  private long index;
+
+  private volatile boolean published;
+
+  ViolationsSubscriber(
+      AbstractViolationsMatcher<Object> itemMatcher,
+      Executor executor,
+      int concurrency,
+      boolean failFast) {
+    this.itemMatcher = itemMatcher;
+    this.executor = executor;
+    this.concurrency = concurrency;
+    this.failFast = failFast;
+  }
+
+  CompletableFuture<ViolationsSummary> result() {
+    return result;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    request(concurrency);
+  }
+
+  // signals are serial, so index needs no synchronisation
+  @Override
+  public void onNext(Object item) {
+    long itemIndex = index++;
+    pending.incrementAndGet();
+    try {
+      executor.execute(() -> validate(itemIndex, item));
+    } catch (RuntimeException e) {
+      fail(e);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    result.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    published = true;
+    completeIfDone();
+  }
+
+  private void validate(long itemIndex, Object item) {
+    if (result.isDone()) {
+      return;
+    }
+    boolean passed;
+    try {
+      List<Class<? extends ConstraintValidator>> violations =
+          item == null ? null : itemMatcher.actualViolations(item);
+      passed = violations != null && itemMatcher.matches(violations);
+      synchronized (summary) {
+        // the summary is handed over once the result completes, so later items go unrecorded
+        if (result.isDone()) {
+          return;
+        }
+        if (passed) {
+          summary.passed();
+        } else {
+          summary.failed(itemIndex, item, violations);
+        }
+      }
+    } catch (RuntimeException | Error e) {
+      fail(e);
+      return;
+    }
+    pending.decrementAndGet();
+    if (!passed && failFast) {
+      cancel();
+      complete();
+    } else if (!published) {
+      request(1);
+    } else {
+      completeIfDone();
+    }
+  }
+
+  private void completeIfDone() {
+    if (published && pending.get() == 0) {
+      complete();
+    }
+  }
+
+  private void complete() {
+    synchronized (summary) {
+      result.complete(summary);
+    }
+  }
+
+  private void fail(Throwable throwable) {
+    cancel();
+    result.completeExceptionally(throwable);
+  }
+
+  private void request(long n) {
+    requested.addAndGet(n);
+    drain();
+  }
+
+  private void cancel() {
+    cancelled = true;
+    drain();
+  }
+
+  // validators finish on many threads, but the subscription must be signalled serially, so
+  // whichever thread finds no other draining passes on what the rest asked for meanwhile; any
+  // signal raised before onSubscribe is passed on by the drain that onSubscribe starts
+  private void drain() {
+    if (signalling.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      Flow.Subscription current = subscription;
+      if (current != null && !cancelSent) {
+        if (cancelled) {
+          cancelSent = true;
+          current.cancel();
+        } else {
+          long n = requested.getAndSet(0);
+          if (n > 0) {
+            current.request(n);
+          }
+        }
+      }
+      missed = signalling.addAndGet(-missed);
+    } while (missed != 0);
+  }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import javax.validation.ConstraintValidator;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+
+final class ViolationsSummary {
+
+  static final int DEFAULT_LIMIT = 10;
+
+  private final AbstractViolationsMatcher<Object> itemMatcher;
+
+  private final int limit;
+
+  // keyed by index so that failures recorded out of order, as concurrent validations complete,
+  // are still sampled and described as the lowest indices in order
+  private final TreeMap<Long, Failure> failures = new TreeMap<>();
+
+  private long total;
+
+  private long failed;
+
+  ViolationsSummary(AbstractViolationsMatcher<Object> itemMatcher) {
+    this(itemMatcher, DEFAULT_LIMIT);
+  }
+
+  ViolationsSummary(AbstractViolationsMatcher<Object> itemMatcher, int limit) {
+    this.itemMatcher = itemMatcher;
+    this.limit = limit;
+  }
+
+  boolean accept(long index, Object item) {
+    if (item == null) {
+      failed(index, null, null);
+      return false;
+    }
+    List<Class<? extends ConstraintValidator>> violations = itemMatcher.actualViolations(item);
+    if (itemMatcher.matches(violations)) {
+      passed();
+      return true;
+    }
+    failed(index, item, violations);
+    return false;
+  }
+
+  void passed() {
+    total++;
+  }
+
+  void failed(long index, Object item, List<Class<? extends ConstraintValidator>> violations) {
+    total++;
+    failed++;
+    if (failures.size() < limit || (limit > 0 && index < failures.lastKey())) {
+      sample(new Failure(index, render(item, violations)));
+    }
+  }
+
+  // rendered as soon as it is sampled, so the summary holds text rather than the failing items
+  private String render(Object item, List<Class<? extends ConstraintValidator>> violations) {
+    if (item == null) {
+      return "was null";
+    }
+    Description description = new StringDescription();
+    itemMatcher.describeMismatch(item, description, violations);
+    return description.toString();
+  }
+
+  private void sample(Failure failure) {
+    if (failures.size() < limit) {
+      failures.put(failure.index, failure);
+    } else if (limit > 0 && failure.index < failures.lastKey()) {
+      failures.pollLastEntry();
+      failures.put(failure.index, failure);
+    }
+  }
+
+  ViolationsSummary merge(ViolationsSummary later) {
+    total += later.total;
+    failed += later.failed;
+    for (Failure failure : later.failures.values()) {
+      sample(failure);
+    }
+    return this;
+  }
+
+  long total() {
+    return total;
+  }
+
+  long failed() {
+    return failed;
+  }
+
+  List<Failure> failures() {
+    return Collections.unmodifiableList(new ArrayList<>(failures.values()));
+  }
+
+  void describeTo(Description mismatchDescription) {
+    mismatchDescription
+        .appendText(String.valueOf(failed))
+        .appendText(" of ")
+        .appendText(String.valueOf(total))
+        .appendText(" items failed: ");
+    String separator = "";
+    for (Failure failure : failures.values()) {
+      mismatchDescription
+          .appendText(separator)
+          .appendText("item [")
+          .appendText(String.valueOf(failure.index))
+          .appendText("] ")
+          .appendText(failure.description);
+      separator = ", ";
+    }
+    long unreported = failed - failures.size();
+    if (unreported > 0) {
+      mismatchDescription
+          .appendText(" and ")
+          .appendText(String.valueOf(unreported))
+          .appendText(" more");
+    }
+  }
+
+  static final class Failure {
+
+    final long index;
+
+    final String description;
+
+    private Failure(long index, String description) {
+      this.index = index;
+      this.description = description;
+    }
+  }
+
+  // keeps the summary of the last failed match on each thread for the describeMismatch call that
+  // follows it, as a source that is read once can't be read again to describe; the source itself
+  // is only weakly held, to tell it apart from another one described on the same thread
+  static final class LastFailure {
+
+    private final ThreadLocal<Recorded> recorded = new ThreadLocal<>();
+
+    boolean record(Object source, ViolationsSummary summary) {
+      if (summary.failed() == 0) {
+        recorded.remove();
+        return true;
+      }
+      recorded.set(new Recorded(source, summary));
+      return false;
+    }
+
+    ViolationsSummary take(Object source) {
+      Recorded last = recorded.get();
+      recorded.remove();
+      return last != null && last.source.get() == source ? last.summary : null;
+    }
+
+    private static final class Recorded {
+
+      final WeakReference<Object> source;
+
+      final ViolationsSummary summary;
+
+      Recorded(Object source, ViolationsSummary summary) {
+        this.source = new WeakReference<>(source);
+        this.summary = summary;
+      }
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasMinAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNotNullAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasPatternAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasSizeAnnotation;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Pattern.Flag;
+import javax.validation.constraints.Size;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AnnotationExpectationTest {
+
+  private static class Bean {
+
+    @Size(min = 24, max = 42)
+    private String foo;
+
+    @Pattern(regexp = "[a-z]+", flags = Flag.CASE_INSENSITIVE)
+    private String bar;
+  }
+
+  private static class SubBean extends Bean {}
+
+  @AfterEach
+  void tearDown() {
+    AnnotationExpectation.clearInterned();
+  }
+
+  @Test
+  void shouldShareExpectationButNotMatcherForRepeatedAssertion() {
+    // given
+    Matcher<Class<Bean>> matcher = hasSizeAnnotation("foo", 24, 42);
+    // when
+    Matcher<Class<Bean>> other = hasSizeAnnotation("foo", 24, 42);
+    // then
+    assertThat(other, is(not(sameInstance(matcher))));
+    assertThat(
+        AnnotationExpectation.onField(Size.class, "foo", "min", 24, "max", 42),
+        sameInstance(AnnotationExpectation.onField(Size.class, "foo", "min", 24, "max", 42)));
+    assertThat(AnnotationExpectation.internedCount(), is(1));
+    assertThat(Bean.class, matcher);
+    assertThat(SubBean.class, hasSizeAnnotation("foo", 24, 42));
+  }
+
+  @Test
+  void shouldNotShareExpectationBetweenDifferentArguments() {
+    // given
+    AnnotationExpectation expectation =
+        AnnotationExpectation.onField(Size.class, "foo", "min", 24, "max", 42);
+    // then
+    assertThat(
+        AnnotationExpectation.onField(Size.class, "foo", "min", 24),
+        is(not(sameInstance(expectation))));
+    assertThat(
+        AnnotationExpectation.onField(Size.class, "bar", "min", 24, "max", 42),
+        is(not(sameInstance(expectation))));
+  }
+
+  @Test
+  void shouldCompareUnspecifiedAttributesWithTheirDefaults() {
+    // then
+    assertThat(Bean.class, not(hasSizeAnnotation("foo", 24)));
+    assertThat(Bean.class, not(hasPatternAnnotation("bar", "[a-z]+")));
+    assertThat(Bean.class, hasPatternAnnotation("bar", "[a-z]+", Flag.CASE_INSENSITIVE));
+  }
+
+  @Test
+  void shouldInternArrayAttributesByContent() {
+    // given
+    Flag[] flags = {Flag.CASE_INSENSITIVE};
+    AnnotationExpectation expectation =
+        AnnotationExpectation.onField(Pattern.class, "bar", "regexp", "[a-z]+", "flags", flags);
+    // when
+    flags[0] = Flag.MULTILINE;
+    // then
+    assertThat(
+        AnnotationExpectation.onField(
+            Pattern.class, "bar", "regexp", "[a-z]+", "flags", new Flag[] {Flag.CASE_INSENSITIVE}),
+        sameInstance(expectation));
+    assertThat(expectation.isMetBy(Bean.class), is(true));
+  }
+
+  @Test
+  void shouldStopInterningOnceFull() {
+    // given
+    for (int i = 0; i < AnnotationExpectation.MAX_INTERNED; i++) {
+      hasMinAnnotation("foo", i);
+    }
+    // when
+    int count = AnnotationExpectation.internedCount();
+    // then
+    assertThat(count, is(AnnotationExpectation.MAX_INTERNED));
+    assertThat(
+        AnnotationExpectation.onField(Size.class, "foo", "min", 24),
+        is(not(sameInstance(AnnotationExpectation.onField(Size.class, "foo", "min", 24)))));
+  }
+
+  @Test
+  void shouldDescribeExpectedAnnotation() {
+    // given
+    Description description = new StringDescription();
+    // when
+    hasSizeAnnotation("foo", 24, 42).describeTo(description);
+    // then
+    assertThat(description.toString(), is("field \"foo\" annotated with @Size(min=24, max=42)"));
+  }
+
+  @Test
+  void shouldDescribeMismatchedAttributes() {
+    assertThat(
+        mismatch(hasSizeAnnotation("foo", 24, 24)), is("field \"foo\" @Size max was 42 not 24"));
+    assertThat(mismatch(hasNotNullAnnotation("foo")), is("field \"foo\" had no @NotNull"));
+    assertThat(mismatch(hasNotNullAnnotation("baz")), is("had no field \"baz\""));
+  }
+
+  private static String mismatch(Matcher<Class<Bean>> matcher) {
+    Description description = new StringDescription();
+    matcher.describeMismatch(Bean.class, description);
+    return description.toString();
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ValidationMatchers.allHaveNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.allHaveViolations;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import javax.validation.constraints.NotNull;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.junit.jupiter.api.Test;
+
+class ValidationExecutorsTest {
+
+  private static class Bean {
+
+    @NotNull private final String foo;
+
+    private Bean(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  @Test
+  void shouldNotBeAbleToInstantiateViaReflection() throws Exception {
+    Constructor<ValidationExecutors> constructor =
+        ValidationExecutors.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    InvocationTargetException e =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void shouldUseVirtualThreadsWhereAvailable() {
+    // given
+    boolean virtualThreads = Runtime.version().feature() >= 21;
+    ExecutorService executor = ValidationExecutors.virtualThreadPerTask();
+    try {
+      // when
+      int parallelism = ((ValidationExecutorService) executor).parallelism();
+      // then
+      assertThat(
+          parallelism,
+          is(
+              virtualThreads
+                  ? Integer.MAX_VALUE
+                  : Runtime.getRuntime().availableProcessors()
+                      * ValidationExecutors.BLOCKING_THREADS_PER_PROCESSOR));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldValidateInBulkOnVirtualThreadExecutor() {
+    // given
+    List<Bean> valid = new ArrayList<>();
+    List<Bean> invalid = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      valid.add(new Bean("foo"));
+      invalid.add(new Bean(null));
+    }
+    ExecutorService executor = ValidationExecutors.virtualThreadPerTask();
+    try {
+      // then
+      assertThat(valid, allHaveNoViolations(executor));
+      assertThat(invalid, allHaveViolations(NotNullValidator.class, executor));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
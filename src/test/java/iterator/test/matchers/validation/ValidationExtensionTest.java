@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasViolations;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ValidationExtension.class)
+@PrewarmConstraints(ValidationExtensionTest.Bean.class)
+class ValidationExtensionTest {
+
+  static class Bean {
+
+    @NotNull private final String foo;
+
+    private Bean(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  @Test
+  void shouldMakeMatchersUseSharedFactory(ValidatorFactory factory) {
+    // then
+    assertThat(ValidatorFactoryHolder.isCurrent(factory), is(true));
+    assertThat(new Bean(null), hasViolations("foo", NotNullValidator.class));
+  }
+
+  @Test
+  void shouldInjectValidatorFromSharedFactory(ValidatorFactory factory, Validator validator) {
+    // then
+    assertThat(validator.validate(new Bean(null)).size(), is(1));
+    assertThat(ValidatorFactoryHolder.getValidatorFactory(), sameInstance(factory));
+  }
+}
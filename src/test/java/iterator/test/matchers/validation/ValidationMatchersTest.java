@@ -1,13 +1,21 @@
 package iterator.test.matchers.validation;
 
+import static iterator.test.matchers.validation.ValidationMatchers.allHaveNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.allHaveViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.arrayHasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.arrayHasViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.constraintProfile;
 import static iterator.test.matchers.validation.ValidationMatchers.hasAssertFalseAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasAssertTrueAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasConstructorParameterViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasConstructorReturnValueViolations;
 import static iterator.test.matchers.validation.ValidationMatchers.hasCreditCardNumberAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasDecimalMaxAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasDecimalMinAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasDigitsAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasEanAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasEmailAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasExactlyViolations;
 import static iterator.test.matchers.validation.ValidationMatchers.hasFutureAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasLengthAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasLuhnCheckAnnotation;
@@ -15,34 +23,76 @@ import static iterator.test.matchers.validation.ValidationMatchers.hasMaxAnnotat
 import static iterator.test.matchers.validation.ValidationMatchers.hasMinAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasMod10CheckAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasMod11CheckAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoConstructorParameterViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoConstructorReturnValueViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoParameterViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoReturnValueViolations;
 import static iterator.test.matchers.validation.ValidationMatchers.hasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoViolationsFailFast;
 import static iterator.test.matchers.validation.ValidationMatchers.hasNotBlankAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasNotEmptyAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasNotNullAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasParameterViolations;
 import static iterator.test.matchers.validation.ValidationMatchers.hasPastAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasPatternAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasRangeAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasReturnValueViolations;
 import static iterator.test.matchers.validation.ValidationMatchers.hasSafeHtmlAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasScriptAssertAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasSizeAnnotation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasUrlAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasViolation;
 import static iterator.test.matchers.validation.ValidationMatchers.hasViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.iteratorHasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.iteratorHasViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.matchesConstraintSnapshot;
+import static iterator.test.matchers.validation.ValidationMatchers.on;
+import static iterator.test.matchers.validation.ValidationMatchers.publisherHasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.publisherHasViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.streamHasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.streamHasViolations;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import iterator.Reflection;
 import iterator.test.matchers.type.annotation.AnnotationMap;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.Valid;
 import javax.validation.constraints.AssertFalse;
 import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.DecimalMax;
@@ -75,12 +125,11 @@ import org.hibernate.validator.constraints.SafeHtml;
 import org.hibernate.validator.constraints.SafeHtml.WhiteListType;
 import org.hibernate.validator.constraints.ScriptAssert;
 import org.hibernate.validator.constraints.URL;
-import org.hibernate.validator.internal.constraintvalidators.bv.NotBlankValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForCharSequence;
 import org.hibernate.validator.internal.constraintvalidators.hv.LengthValidator;
 import org.junit.jupiter.api.Test;
-import org.springframework.util.ReflectionUtils;
+import org.junit.jupiter.api.io.TempDir;
 
 @ScriptAssert(lang = "foo", script = "bar")
 class ValidationMatchersTest {
@@ -104,6 +153,157 @@ class ValidationMatchersTest {
     }
   }
 
+  private interface OnCreate {}
+
+  private static class GroupedBean {
+
+    @NotNull(groups = OnCreate.class)
+    private final String foo;
+
+    @NotNull private final String bar;
+
+    private GroupedBean(String foo, String bar) {
+      this.foo = foo;
+      this.bar = bar;
+    }
+  }
+
+  private static class Parent {
+
+    @Valid private final Bean child;
+
+    private Parent(Bean child) {
+      this.child = child;
+    }
+  }
+
+  static class Roster {
+
+    private final List<@NotBlank String> names;
+
+    Roster(@NotNull List<String> names) {
+      this.names = names;
+    }
+
+    @NotNull
+    String first(@Min(0) int index) {
+      return names.get(index);
+    }
+  }
+
+  private static class Family {
+
+    @Valid private final List<Bean> children;
+
+    private Family(Bean... children) {
+      this.children = asList(children);
+    }
+  }
+
+  @Retention(RUNTIME)
+  @Target(TYPE)
+  @Constraint(validatedBy = OrderedValidator.class)
+  public @interface Ordered {
+
+    String message() default "must be ordered";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+  }
+
+  public static class OrderedValidator implements ConstraintValidator<Ordered, Interval> {
+
+    @Override
+    public boolean isValid(Interval value, ConstraintValidatorContext context) {
+      return value.from <= value.to;
+    }
+  }
+
+  @Ordered
+  private static class Interval {
+
+    @NotNull private final String name;
+
+    private final int from;
+
+    private final int to;
+
+    private Interval(String name, int from, int to) {
+      this.name = name;
+      this.from = from;
+      this.to = to;
+    }
+  }
+
+  static class Greeter {
+
+    @NotNull
+    String greet(@NotNull @Length(max = 4) String name, int times) {
+      return times > 0 ? name : null;
+    }
+
+    String echo(String text) {
+      return text;
+    }
+  }
+
+  static class Account {
+
+    @NotNull private final String owner;
+
+    @Valid
+    Account(@NotNull @Length(max = 4) String owner) {
+      this.owner = owner;
+    }
+  }
+
+  private static class ListPublisher<T> implements Flow.Publisher<T> {
+
+    private final List<T> items;
+
+    private long maxDemand;
+
+    private ListPublisher(List<T> items) {
+      this.items = items;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+      subscriber.onSubscribe(
+          new Flow.Subscription() {
+
+            private int next;
+
+            private long requested;
+
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+              synchronized (ListPublisher.this) {
+                requested += n;
+                maxDemand = Math.max(maxDemand, requested - next);
+                while (next < requested && next < items.size() && !done) {
+                  subscriber.onNext(items.get(next++));
+                }
+                if (next == items.size() && !done) {
+                  done = true;
+                  subscriber.onComplete();
+                }
+              }
+            }
+
+            @Override
+            public void cancel() {
+              synchronized (ListPublisher.this) {
+                done = true;
+              }
+            }
+          });
+    }
+  }
+
   @AssertFalse(message = "foo")
   private String assertFalseAnnotation;
 
@@ -1057,6 +1257,155 @@ class ValidationMatchersTest {
                 "urlAnnotation", AnnotationMap.from(URL.class).set("protocol", "foo"))));
   }
 
+  @Test
+  void shouldMatchConstraintProfile() {
+    // given
+    Map<String, Object> pattern = new LinkedHashMap<>();
+    pattern.put("regexp", "baz");
+    pattern.put("flags", new Flag[] {Flag.CASE_INSENSITIVE, Flag.MULTILINE});
+    // then
+    assertThat(
+        ValidationMatchersTest.class,
+        constraintProfile(ValidationMatchersTest.class)
+            .field("minAnnotation", Min.class, 24)
+            .field("maxAnnotation", Max.class, 42L)
+            .field("notNullAnnotation", NotNull.class, singletonMap("message", "foo"))
+            .field("notNullAnnotationWithDefaults", NotNull.class)
+            .field("patternAnnotationWithFlags", Pattern.class, pattern));
+  }
+
+  @Test
+  void shouldNotMatchConstraintProfile() {
+    assertThat(
+        ValidationMatchersTest.class,
+        not(
+            constraintProfile(ValidationMatchersTest.class)
+                .field("minAnnotation", Min.class, 24)
+                .field("maxAnnotation", Max.class, 24)));
+  }
+
+  @Test
+  void shouldDescribeConstraintProfile() {
+    // given
+    Matcher<Class<ValidationMatchersTest>> matcher =
+        constraintProfile(ValidationMatchersTest.class)
+            .field("minAnnotation", Min.class, 24)
+            .field("notNullAnnotationWithDefaults", NotNull.class);
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(
+        description.toString(),
+        is(
+            "constraint profile of ValidationMatchersTest with minAnnotation @Min(value=24), "
+                + "notNullAnnotationWithDefaults @NotNull"));
+  }
+
+  @Test
+  void shouldDescribeAllConstraintProfileMismatches() {
+    // given
+    Matcher<Class<ValidationMatchersTest>> matcher =
+        constraintProfile(ValidationMatchersTest.class)
+            .field("minAnnotation", Min.class, 25)
+            .field("maxAnnotation", Min.class)
+            .field("missing", NotNull.class);
+    Description description = new StringDescription();
+    // when
+    matcher.describeMismatch(ValidationMatchersTest.class, description);
+    // then
+    assertThat(
+        description.toString(),
+        is(
+            "minAnnotation @Min value was 24 not 25, maxAnnotation has no @Min, "
+                + "no field \"missing\""));
+  }
+
+  @Test
+  void shouldNotBeAbleToExpectUnknownConstraintAttribute() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            constraintProfile(ValidationMatchersTest.class)
+                .field("minAnnotation", Min.class, singletonMap("foo", 1)));
+  }
+
+  @Test
+  void shouldRecordMissingConstraintSnapshot(@TempDir Path directory) throws Exception {
+    // when
+    recordingSnapshots(() -> assertThat(Bean.class, matchesConstraintSnapshot(directory)));
+    // then
+    String snapshot =
+        new String(
+            Files.readAllBytes(directory.resolve(Bean.class.getName() + ".constraints")),
+            StandardCharsets.UTF_8);
+    assertThat(snapshot, containsString("property foo\n  @" + NotNull.class.getName() + "("));
+    assertThat(snapshot, containsString("  @" + Length.class.getName() + "("));
+  }
+
+  @Test
+  void shouldModelContainerElementAndExecutableConstraints() {
+    // when
+    String model = ConstraintModel.of(Roster.class);
+    // then
+    assertThat(
+        model,
+        containsString(
+            "property names\n  element java.util.List<0>\n    @" + NotBlank.class.getName() + "("));
+    assertThat(
+        model,
+        containsString(
+            "constructor(java.util.List)\n  parameter 0\n    @" + NotNull.class.getName()));
+    assertThat(
+        model, containsString("method first(int)\n  parameter 0\n    @" + Min.class.getName()));
+    assertThat(model, containsString("  return value\n    @" + NotNull.class.getName()));
+  }
+
+  @Test
+  void shouldMatchRecordedConstraintSnapshot(@TempDir Path directory) {
+    // given
+    recordingSnapshots(() -> assertThat(Bean.class, matchesConstraintSnapshot(directory)));
+    // then
+    assertThat(Bean.class, matchesConstraintSnapshot(directory));
+  }
+
+  @Test
+  void shouldNotMatchMissingConstraintSnapshot(@TempDir Path directory) {
+    // given
+    Path snapshot = directory.resolve(Bean.class.getName() + ".constraints");
+    Matcher<Class<Bean>> matcher = matchesConstraintSnapshot(directory);
+    Description description = new StringDescription();
+    // when
+    boolean matched = matcher.matches(Bean.class);
+    matcher.describeMismatch(Bean.class, description);
+    // then
+    assertThat(matched, is(false));
+    assertThat(Files.exists(snapshot), is(false));
+    assertThat(
+        description.toString(),
+        is(
+            "no snapshot at <"
+                + snapshot
+                + ">, run with -Diterator.validation.snapshots.record=true to record it"));
+  }
+
+  @Test
+  void shouldNotMatchDriftedConstraintSnapshot(@TempDir Path directory) throws Exception {
+    // given
+    Path snapshot = directory.resolve(Bean.class.getName() + ".constraints");
+    Files.write(snapshot, ("class " + Bean.class.getName() + "\nproperty baz\n").getBytes());
+    Matcher<Class<Bean>> matcher = matchesConstraintSnapshot(directory);
+    Description description = new StringDescription();
+    // when
+    boolean matched = matcher.matches(Bean.class);
+    matcher.describeMismatch(Bean.class, description);
+    // then
+    assertThat(matched, is(false));
+    assertThat(
+        description.toString(),
+        is("line 2 was \"property bar\" but <" + snapshot + "> has \"property baz\""));
+  }
+
   @Test
   void shouldPassGivenNoViolationsOnAnyFieldWhenHasNoViolations() {
     assertThat(new Bean("foo", 42), hasNoViolations());
@@ -1085,6 +1434,93 @@ class ValidationMatchersTest {
         });
   }
 
+  @Test
+  void shouldPassGivenUnconstrainedBeanWhenHasNoViolations() {
+    assertThat(new Object(), hasNoViolations());
+  }
+
+  @Test
+  void shouldPassGivenUnconstrainedFieldWhenHasNoViolations() {
+    assertThat(new Bean(null, 43), hasNoViolations("baz"));
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsOnSpecifiedNestedFieldWhenHasNoViolations() {
+    assertThat(new Parent(new Bean("foo", 43)), hasNoViolations("child.foo"));
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnSpecifiedNestedFieldWhenHasNoViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(new Parent(new Bean(null, 42)), hasNoViolations("child.foo"));
+        });
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsOnAnyFieldWhenHasNoViolationsFailFast() {
+    assertThat(new Bean("foo", 42), hasNoViolationsFailFast());
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsOnSpecifiedFieldWhenHasNoViolationsFailFast() {
+    assertThat(new Bean("foo", 43), hasNoViolationsFailFast("foo"));
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnAnyFieldWhenHasNoViolationsFailFast() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(new Bean(null, 43), hasNoViolationsFailFast());
+        });
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnSpecifiedNestedFieldWhenHasNoViolationsFailFast() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(new Parent(new Bean(null, 43)), hasNoViolationsFailFast("child.foo"));
+        });
+  }
+
+  @Test
+  void shouldPassGivenViolationsOutsideDefaultGroupWhenHasNoViolations() {
+    assertThat(new GroupedBean(null, "bar"), hasNoViolations());
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsInSpecifiedGroupWhenHasNoViolations() {
+    assertThat(new GroupedBean("foo", null), hasNoViolations(OnCreate.class));
+  }
+
+  @Test
+  void shouldFailGivenViolationsInSpecifiedGroupWhenHasNoViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(new GroupedBean(null, "bar"), hasNoViolations("foo", OnCreate.class));
+        });
+  }
+
+  @Test
+  void shouldPassGivenViolationsInSpecifiedGroupForSpecifiedValidatorWhenHasViolations() {
+    assertThat(
+        new GroupedBean(null, "bar"), hasViolations("foo", NotNullValidator.class, OnCreate.class));
+  }
+
+  @Test
+  void shouldFailGivenViolationsOutsideSpecifiedGroupWhenHasViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(
+              new GroupedBean("foo", null), hasViolations(NotNullValidator.class, OnCreate.class));
+        });
+  }
+
   @Test
   void shouldPassGivenViolationsOnAnyFieldForSpecifiedValidatorWhenHasViolations() {
     assertThat(new Bean("foooo", 43), hasViolations(LengthValidator.class));
@@ -1104,6 +1540,12 @@ class ValidationMatchersTest {
     assertThat(new Bean("foooo", 43), hasViolations("foo", LengthValidator.class));
   }
 
+  @Test
+  void shouldPassGivenViolationsOnSpecifiedNestedFieldForSpecifiedValidatorWhenHasViolations() {
+    assertThat(
+        new Parent(new Bean(null, 42)), hasViolations("child.foo", NotNullValidator.class));
+  }
+
   @Test
   void shouldFailGivenNoViolationsOnSpecifiedFieldForSpecifiedValidatorWhenHasViolations() {
     assertThrows(
@@ -1115,98 +1557,358 @@ class ValidationMatchersTest {
   }
 
   @Test
-  void shouldDescribeHasNoViolations() {
+  void shouldPassGivenNoViolationsOnAnyItemWhenAllHaveNoViolations() {
+    assertThat(asList(new Bean("foo", 42), new Bean("bar", 42)), allHaveNoViolations());
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsOnSpecifiedFieldOfAnyItemWhenAllHaveNoViolations() {
+    assertThat(asList(new Bean("foo", 43), new Bean("bar", 43)), allHaveNoViolations("foo"));
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnAnyItemWhenAllHaveNoViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(asList(new Bean("foo", 42), new Bean(null, 42)), allHaveNoViolations());
+        });
+  }
+
+  @Test
+  void shouldPassGivenViolationsOnEveryItemWhenAllHaveViolations() {
+    assertThat(
+        asList(new Bean(null, 42), new Bean(null, 43)),
+        allHaveViolations("foo", NotNullValidator.class));
+  }
+
+  @Test
+  void shouldFailGivenNoViolationsOnAnyItemWhenAllHaveViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(
+              asList(new Bean(null, 42), new Bean("foo", 42)),
+              allHaveViolations(NotNullValidator.class));
+        });
+  }
+
+  @Test
+  void shouldDescribeAllHaveNoViolations() {
     // given
-    Matcher<Bean> matcher = new HasNoViolationsMatcher<>();
+    Matcher<Iterable<?>> matcher = allHaveNoViolations("foo");
     Description description = new StringDescription();
     // when
     matcher.describeTo(description);
     // then
-    assertThat(description.toString(), is("no constraint violations"));
+    assertThat(
+        description.toString(), is("every item with no constraint violations on field \"foo\""));
   }
 
   @Test
-  void shouldDescribeHasNoViolationsForField() {
+  void shouldDescribeBoundedMismatchForAllHaveNoViolations() {
     // given
-    Matcher<Bean> matcher = new HasNoViolationsMatcher<>("foo");
+    Matcher<Iterable<?>> matcher = allHaveNoViolations();
+    List<Bean> beans = new ArrayList<>();
+    beans.add(new Bean("foo", 42));
+    for (int i = 0; i < 12; i++) {
+      beans.add(new Bean(null, 42));
+    }
     Description description = new StringDescription();
     // when
-    matcher.describeTo(description);
+    matcher.describeMismatch(beans, description);
     // then
-    assertThat(description.toString(), is("no constraint violations on field \"foo\""));
+    String violation = violatedNotNullOnFoo();
+    StringBuilder expected = new StringBuilder("12 of 13 items failed: ");
+    for (int i = 1; i <= 10; i++) {
+      expected.append(i == 1 ? "" : ", ").append("item [").append(i).append("] ").append(violation);
+    }
+    expected.append(" and 2 more");
+    assertThat(description.toString(), is(expected.toString()));
   }
 
   @Test
-  void shouldDescribeHasViolations() {
+  void shouldFailGivenNullItemWhenAllHaveNoViolations() {
     // given
-    Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class);
+    List<Bean> beans = asList(new Bean("foo", 42), null);
     Description description = new StringDescription();
     // when
-    matcher.describeTo(description);
+    allHaveNoViolations().describeMismatch(beans, description);
     // then
+    assertThat(beans, not(allHaveNoViolations()));
+    assertThat(beans, not(allHaveNoViolations(ForkJoinPool.commonPool())));
+    assertThat(beans, not(allHaveViolations("foo", NotNullValidator.class)));
+    assertThat(Stream.of(new Bean("foo", 42), null), not(streamHasNoViolations()));
     assertThat(
-        description.toString(),
-        is("<" + NotNullValidator.class.toString() + "> constraint violation"));
+        new ListPublisher<>(beans), not(publisherHasNoViolations().using(Runnable::run, 1)));
+    assertThat(description.toString(), is("1 of 2 items failed: item [1] was null"));
   }
 
   @Test
-  void shouldDescribeHasViolationsForField() {
+  void shouldPassGivenNoViolationsOnAnyItemWhenAllHaveNoViolationsInParallel() {
     // given
-    Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class, "foo");
-    Description description = new StringDescription();
-    // when
-    matcher.describeTo(description);
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Bean("foo", 42));
+    }
     // then
-    assertThat(
-        description.toString(),
-        is("<" + NotNullValidator.class.toString() + "> constraint violation on field \"foo\""));
+    assertThat(beans, allHaveNoViolations(ForkJoinPool.commonPool()));
   }
 
   @Test
-  void shouldDescribeMismatchForHasNoViolations() {
+  void shouldFailGivenViolationsOnAnyItemWhenAllHaveNoViolationsInParallel() {
     // given
-    Matcher<Bean> matcher = new HasNoViolationsMatcher<>();
-    List<Class<? extends ConstraintValidator>> violations =
-        asList(NotNullValidator.class, NotBlankValidator.class);
-    setActualViolations(matcher, violations);
-    Description description = new StringDescription();
-    Bean bean = new Bean("foo", 42);
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Bean(i == 997 ? null : "foo", 42));
+    }
+    // then
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(beans, allHaveNoViolations(ForkJoinPool.commonPool()));
+        });
+  }
+
+  @Test
+  void shouldDescribeSameMismatchInParallelAsSeriallyForAllHaveViolations() {
+    // given
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Bean(i % 7 == 0 ? "foo" : null, 42));
+    }
+    Description serial = new StringDescription();
+    Description parallel = new StringDescription();
     // when
-    matcher.describeMismatch(bean, description);
+    allHaveViolations("foo", NotNullValidator.class).describeMismatch(beans, serial);
+    allHaveViolations("foo", NotNullValidator.class, ForkJoinPool.commonPool())
+        .describeMismatch(beans, parallel);
+    // then
+    assertThat(parallel.toString(), is(serial.toString()));
+  }
+
+  @Test
+  void shouldMatchArraysLikeIterables() {
+    // given
+    Bean[] beans = {new Bean("foo", 42), new Bean(null, 42)};
+    Description description = new StringDescription();
+    // when
+    arrayHasNoViolations().describeMismatch(beans, description);
+    // then
+    assertThat(new Bean[] {new Bean("foo", 42)}, arrayHasNoViolations());
+    assertThat(beans, arrayHasNoViolations("bar", ForkJoinPool.commonPool()));
+    assertThat(beans, not(arrayHasNoViolations()));
+    assertThat(beans, not(arrayHasViolations("foo", NotNullValidator.class)));
+    assertThat(new Bean[] {new Bean(null, 42)}, arrayHasViolations(NotNullValidator.class));
+    assertThat(
+        description.toString(), is("1 of 2 items failed: item [1] " + violatedNotNullOnFoo()));
+  }
+
+  @Test
+  void shouldPassGivenNoViolationsOnAnyStreamedItemWhenStreamHasNoViolations() {
+    assertThat(
+        IntStream.range(0, 100_000).mapToObj(i -> new Bean("foo", 42)), streamHasNoViolations());
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnAnyStreamedItemWhenStreamHasNoViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(Stream.of(new Bean("foo", 42), new Bean(null, 42)), streamHasNoViolations());
+        });
+  }
+
+  @Test
+  void shouldPassGivenViolationsOnEveryIteratedItemWhenIteratorHasViolations() {
+    assertThat(
+        asList(new Bean(null, 42), new Bean(null, 43)).iterator(),
+        iteratorHasViolations("foo", NotNullValidator.class));
+  }
+
+  @Test
+  void shouldFailGivenViolationsOnAnyIteratedItemWhenIteratorHasNoViolations() {
+    assertThrows(
+        AssertionError.class,
+        () -> {
+          assertThat(
+              asList(new Bean("foo", 42), new Bean(null, 42)).iterator(),
+              iteratorHasNoViolations("foo"));
+        });
+  }
+
+  @Test
+  void shouldDescribeMismatchWhenStreamHasViolations() {
+    // given
+    Matcher<Stream<?>> matcher = streamHasViolations(NotNullValidator.class);
+    Stream<Bean> beans = Stream.of(new Bean(null, 42), new Bean("foooo", 42));
+    Description description = new StringDescription();
+    // when
+    matcher.describeMismatch(beans, description);
     // then
     assertThat(
         description.toString(),
         is(
-            "violated constraints <["
-                + violations.stream().map(Object::toString).collect(Collectors.joining(", "))
-                + "]>"));
+            "1 of 2 items failed: item [1] violated constraints <["
+                + LengthValidator.class.toString()
+                + "]> but not <"
+                + NotNullValidator.class.toString()
+                + ">"));
+  }
+
+  @Test
+  void shouldDescribeMismatchOfConsumedStream() {
+    // given
+    Matcher<Stream<?>> matcher = streamHasNoViolations();
+    Stream<Bean> beans = Stream.of(new Bean("foo", 42), new Bean(null, 42));
+    Description description = new StringDescription();
+    // when
+    boolean matched = matcher.matches(beans);
+    matcher.describeMismatch(beans, description);
+    // then
+    assertThat(matched, is(false));
+    assertThat(
+        description.toString(), is("1 of 2 items failed: item [1] " + violatedNotNullOnFoo()));
+  }
+
+  @Test
+  void shouldNotDescribeMismatchOfAnotherConsumedStream() {
+    // given
+    Matcher<Stream<?>> matcher = streamHasNoViolations();
+    Stream<Bean> beans = Stream.of(new Bean(null, 42));
+    Stream<Bean> others = Stream.of(new Bean(null, 42));
+    others.forEach(bean -> {});
+    Description description = new StringDescription();
+    // when
+    matcher.matches(beans);
+    matcher.describeMismatch(others, description);
+    // then
+    assertThat(
+        description.toString(), is("was already consumed, so its items can't be described"));
+  }
+
+  @Test
+  void shouldCloseStreamOnceMatched() {
+    // given
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Bean> beans = Stream.of(new Bean("foo", 42)).onClose(() -> closed.set(true));
+    // when
+    boolean matched = streamHasNoViolations().matches(beans);
+    // then
+    assertThat(matched, is(true));
+    assertThat(closed.get(), is(true));
+  }
+
+  @Test
+  void shouldStopAtFirstFailureWhenStreamHasNoViolationsFailingFast() {
+    // given
+    Matcher<Stream<?>> matcher = streamHasNoViolations().failFast();
+    Stream<Bean> beans = Stream.of(new Bean("foo", 42), new Bean(null, 42), new Bean(null, 42));
+    Description description = new StringDescription();
+    // when
+    matcher.describeMismatch(beans, description);
+    // then
+    assertThat(
+        description.toString(),
+        is(
+            "1 of 2 items failed: item [1] "
+                + violatedNotNullOnFoo()
+                + " (stopped at first failure)"));
+  }
+
+  @Test
+  void shouldDescribeHasNoViolations() {
+    // given
+    Matcher<Bean> matcher = new HasNoViolationsMatcher<>();
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(description.toString(), is("no constraint violations"));
+  }
+
+  @Test
+  void shouldDescribeHasNoViolationsForField() {
+    // given
+    Matcher<Bean> matcher = new HasNoViolationsMatcher<>("foo");
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(description.toString(), is("no constraint violations on field \"foo\""));
+  }
+
+  @Test
+  void shouldDescribeHasNoViolationsForFieldInGroups() {
+    // given
+    Matcher<Bean> matcher = new HasNoViolationsMatcher<>("foo", false, OnCreate.class);
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(
+        description.toString(),
+        is("no constraint violations on field \"foo\" in groups [OnCreate]"));
+  }
+
+  @Test
+  void shouldDescribeHasViolations() {
+    // given
+    Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class);
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(
+        description.toString(),
+        is("<" + NotNullValidator.class.toString() + "> constraint violation"));
+  }
+
+  @Test
+  void shouldDescribeHasViolationsForField() {
+    // given
+    Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class, "foo");
+    Description description = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    // then
+    assertThat(
+        description.toString(),
+        is("<" + NotNullValidator.class.toString() + "> constraint violation on field \"foo\""));
+  }
+
+  @Test
+  void shouldDescribeMismatchForHasNoViolations() {
+    // given
+    Matcher<Bean> matcher = new HasNoViolationsMatcher<>();
+    Description description = new StringDescription();
+    Bean bean = new Bean(null, 42);
+    // when
+    matcher.describeMismatch(bean, description);
+    // then
+    assertThat(
+        description.toString(),
+        is(violatedNotNullOnFoo()));
   }
 
   @Test
   void shouldDescribeMismatchForHasNoViolationsForField() {
     // given
     Matcher<Bean> matcher = new HasNoViolationsMatcher<>("foo");
-    List<Class<? extends ConstraintValidator>> violations =
-        asList(NotNullValidator.class, NotBlankValidator.class);
-    setActualViolations(matcher, violations);
     Description description = new StringDescription();
-    Bean bean = new Bean("foo", 42);
+    Bean bean = new Bean(null, 42);
     // when
     matcher.describeMismatch(bean, description);
     // then
     assertThat(
         description.toString(),
-        is(
-            "violated constraints <["
-                + violations.stream().map(Object::toString).collect(Collectors.joining(", "))
-                + "]> on field \"foo\""));
+        is(violatedNotNullOnFoo() + " on field \"foo\""));
   }
 
   @Test
   void shouldDescribeMismatchForHasViolationsWhenValid() {
     // given
     Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class);
-    setActualViolations(matcher, emptyList());
     Description description = new StringDescription();
     Bean bean = new Bean("foo", 42);
     // when
@@ -1219,7 +1921,6 @@ class ValidationMatchersTest {
   void shouldDescribeMismatchForHasViolationsForFieldWhenValid() {
     // given
     Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class, "foo");
-    setActualViolations(matcher, emptyList());
     Description description = new StringDescription();
     Bean bean = new Bean("foo", 42);
     // when
@@ -1232,9 +1933,8 @@ class ValidationMatchersTest {
   void shouldDescribeMismatchForHasViolationsWhenFailsOtherValidators() {
     // given
     Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class);
-    setActualViolations(matcher, asList(NotBlankValidator.class));
     Description description = new StringDescription();
-    Bean bean = new Bean("foo", 42);
+    Bean bean = new Bean("foooo", 42);
     // when
     matcher.describeMismatch(bean, description);
     // then
@@ -1242,7 +1942,7 @@ class ValidationMatchersTest {
         description.toString(),
         is(
             "violated constraints <["
-                + NotBlankValidator.class.toString()
+                + LengthValidator.class.toString()
                 + "]> but not <"
                 + NotNullValidator.class.toString()
                 + ">"));
@@ -1252,9 +1952,8 @@ class ValidationMatchersTest {
   void shouldDescribeMismatchForHasViolationsForFieldWhenFailsOtherValidators() {
     // given
     Matcher<Bean> matcher = new HasViolationsMatcher<>(NotNullValidator.class, "foo");
-    setActualViolations(matcher, asList(NotBlankValidator.class));
     Description description = new StringDescription();
-    Bean bean = new Bean("foo", 42);
+    Bean bean = new Bean("foooo", 42);
     // when
     matcher.describeMismatch(bean, description);
     // then
@@ -1262,16 +1961,490 @@ class ValidationMatchersTest {
         description.toString(),
         is(
             "violated constraints <["
-                + NotBlankValidator.class.toString()
+                + LengthValidator.class.toString()
                 + "]> but not <"
                 + NotNullValidator.class.toString()
                 + "> on field \"foo\""));
   }
 
-  private static <T> void setActualViolations(
-      Matcher<T> matcher, List<Class<? extends ConstraintValidator>> actualViolations) {
-    Field field = Reflection.findField(AbstractViolationsMatcher.class, "actualViolations");
-    field.setAccessible(true);
-    ReflectionUtils.setField(field, matcher, actualViolations);
+  @Test
+  void shouldMatchAndDescribeMismatchConcurrentlyWithSharedMatcher() throws Exception {
+    // given
+    Matcher<Bean> matcher = hasNoViolations("foo");
+    String expected = violatedNotNullOnFoo() + " on field \"foo\"";
+    int threads = 32;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<java.util.concurrent.Future<Boolean>> results = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < 500; i++) {
+                    Bean valid = new Bean("foo", 43);
+                    Bean invalid = new Bean(null, 42);
+                    Description description = new StringDescription();
+                    boolean validMatched = matcher.matches(valid);
+                    boolean invalidMatched = matcher.matches(invalid);
+                    matcher.describeMismatch(invalid, description);
+                    if (!validMatched
+                        || invalidMatched
+                        || !expected.equals(description.toString())) {
+                      return false;
+                    }
+                  }
+                  return true;
+                }));
+      }
+      // when
+      start.countDown();
+      // then
+      for (java.util.concurrent.Future<Boolean> result : results) {
+        assertThat(result.get(60, TimeUnit.SECONDS), is(true));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldPrewarmDeclaredClassesInBackground() throws Exception {
+    // when
+    ValidationMatchers.prewarm(Bean.class, GroupedBean.class, Parent.class)
+        .get(5, TimeUnit.SECONDS);
+    // then
+    assertThat(new Bean(null, 43), hasViolations("foo", NotNullValidator.class));
+  }
+
+  @Test
+  void shouldFindClassesInPackageToPrewarm() throws Exception {
+    // when
+    List<Class<?>> classes =
+        ConstraintPrewarmer.classesIn(
+            getClass().getPackage().getName(), getClass().getClassLoader());
+    // then
+    assertThat(classes, hasItems(Bean.class, ValidationMatchers.class));
+    ValidationMatchers.prewarmPackage(getClass().getPackage().getName()).get(30, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void shouldMatchViolationsByIndexWildcard() {
+    // given
+    Family family = new Family(new Bean("foo", 42), new Bean(null, 42));
+    // then
+    assertThat(family, hasViolations("children[*].foo", NotNullValidator.class));
+    assertThat(family, hasViolations("children[1].foo", NotNullValidator.class));
+    assertThat(family, hasNoViolations("children[*].bar"));
+    assertThat(new Family(new Bean("foo", 42)), hasNoViolations("children[*].foo"));
+  }
+
+  @Test
+  void shouldMatchViolationsInSubGraph() {
+    // given
+    Family family = new Family(new Bean("foo", 42), new Bean("foo", null));
+    // then
+    assertThat(family, hasNoViolations("children[0].**"));
+    assertThat(family, hasViolations("children[1].**", NotNullValidator.class));
+    assertThat(family, not(hasNoViolations("children[*].**")));
+  }
+
+  @Test
+  void shouldMatchClassLevelViolationsByEmptyPath() {
+    // given
+    Interval interval = new Interval(null, 2, 1);
+    // then
+    assertThat(interval, hasViolations("", OrderedValidator.class));
+    assertThat(new Interval(null, 1, 2), hasNoViolations(""));
+    assertThat(new Interval("foo", 2, 1), not(hasNoViolations("")));
+    assertThat(
+        interval,
+        hasExactlyViolations(
+            on("", OrderedValidator.class), on("name", NotNullValidator.class)));
+  }
+
+  @Test
+  void shouldRejectMalformedPathPattern() {
+    // then
+    assertThrows(IllegalArgumentException.class, () -> hasNoViolations("children[1"));
+    assertThrows(IllegalArgumentException.class, () -> hasNoViolations("children..foo"));
+  }
+
+  @Test
+  void shouldMatchExactlyExpectedViolations() {
+    // given
+    Family family = new Family(new Bean(null, 42), new Bean("foooo", null));
+    // then
+    assertThat(
+        family,
+        hasExactlyViolations(
+            on("children[0].foo", NotNullValidator.class),
+            on("children[1].foo", LengthValidator.class),
+            on("children[1].bar", NotNullValidator.class)));
+    assertThat(new Bean("foo", 42), hasExactlyViolations());
+  }
+
+  @Test
+  void shouldDescribeMissingAndUnexpectedViolations() {
+    // given
+    Matcher<Bean> matcher =
+        hasExactlyViolations(
+            on("foo", NotNullValidator.class), on("bar", NotNullValidator.class));
+    Description description = new StringDescription();
+    Bean bean = new Bean("foooo", null);
+    // when
+    boolean matches = matcher.matches(bean);
+    matcher.describeMismatch(bean, description);
+    // then
+    assertThat(matches, is(false));
+    assertThat(
+        description.toString(),
+        is("missing [<NotNullValidator on \"foo\">], unexpected [LengthValidator on \"foo\"]"));
+  }
+
+  @Test
+  void shouldMatchParameterViolations() throws Exception {
+    // given
+    Greeter greeter = new Greeter();
+    Method greet = Greeter.class.getDeclaredMethod("greet", String.class, int.class);
+    // then
+    assertThat(greeter, hasNoParameterViolations(greet, "foo", 1));
+    assertThat(greeter, hasParameterViolations(greet, null, 1));
+    assertThat(greeter, hasParameterViolations(NotNullValidator.class, greet, null, 1));
+    assertThat(greeter, hasParameterViolations(LengthValidator.class, greet, "foooo", 1));
+    assertThat(greeter, not(hasParameterViolations(LengthValidator.class, greet, "foo", 1)));
+  }
+
+  @Test
+  void shouldMatchReturnValueViolations() throws Exception {
+    // given
+    Greeter greeter = new Greeter();
+    Method greet = Greeter.class.getDeclaredMethod("greet", String.class, int.class);
+    Method echo = Greeter.class.getDeclaredMethod("echo", String.class);
+    // then
+    assertThat(greeter, hasNoReturnValueViolations(greet, "foo"));
+    assertThat(greeter, hasReturnValueViolations(NotNullValidator.class, greet, null));
+    assertThat(greeter, hasNoReturnValueViolations(echo, null));
+    assertThat(greeter, hasNoParameterViolations(echo, (Object) null));
+  }
+
+  @Test
+  void shouldMatchConstructorParameterViolations() throws Exception {
+    // given
+    Constructor<Account> constructor = Account.class.getDeclaredConstructor(String.class);
+    // then
+    assertThat(constructor, hasNoConstructorParameterViolations("foo"));
+    assertThat(constructor, hasConstructorParameterViolations((Object) null));
+    assertThat(
+        constructor, hasConstructorParameterViolations(NotNullValidator.class, (Object) null));
+    assertThat(constructor, hasConstructorParameterViolations(LengthValidator.class, "foooo"));
+    assertThat(constructor, not(hasConstructorParameterViolations(LengthValidator.class, "foo")));
+  }
+
+  @Test
+  void shouldMatchConstructorReturnValueViolations() throws Exception {
+    // given
+    Constructor<Account> constructor = Account.class.getDeclaredConstructor(String.class);
+    Constructor<Greeter> unconstrained = Greeter.class.getDeclaredConstructor();
+    // then
+    assertThat(new Account("foo"), hasNoConstructorReturnValueViolations(constructor));
+    assertThat(new Account(null), hasConstructorReturnValueViolations(constructor));
+    assertThat(
+        new Account(null),
+        hasConstructorReturnValueViolations(NotNullValidator.class, constructor));
+    assertThat(new Greeter(), hasNoConstructorReturnValueViolations(unconstrained));
+  }
+
+  @Test
+  void shouldDescribeConstructorViolationMismatch() throws Exception {
+    // given
+    Constructor<Account> constructor = Account.class.getDeclaredConstructor(String.class);
+    Matcher<Constructor<Account>> parameters = hasNoConstructorParameterViolations("foooo");
+    Matcher<Account> returnValue = hasConstructorReturnValueViolations(constructor);
+    Description description = new StringDescription();
+    Description mismatch = new StringDescription();
+    Description returned = new StringDescription();
+    Description valid = new StringDescription();
+    // when
+    parameters.describeTo(description);
+    parameters.describeMismatch(constructor, mismatch);
+    returnValue.describeTo(returned);
+    returnValue.describeMismatch(new Account("foo"), valid);
+    // then
+    assertThat(
+        description.toString(),
+        is("no parameter constraint violations on constructor given [\"foooo\"]"));
+    assertThat(mismatch.toString(), containsString(" (1) [@Length "));
+    assertThat(returned.toString(), is("return value constraint violations on Account(String)"));
+    assertThat(valid.toString(), is("was valid"));
+  }
+
+  @Test
+  void shouldDescribeParameterViolationMismatch() throws Exception {
+    // given
+    Method greet = Greeter.class.getDeclaredMethod("greet", String.class, int.class);
+    Matcher<Greeter> matcher = hasNoParameterViolations(greet, null, 1);
+    Description description = new StringDescription();
+    Description mismatch = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    matcher.describeMismatch(new Greeter(), mismatch);
+    // then
+    assertThat(
+        description.toString(),
+        is("no parameter constraint violations on Greeter.greet(String, int) given [null, <1>]"));
+    assertThat(mismatch.toString(), startsWith("violated 1 constraint: greet."));
+    assertThat(mismatch.toString(), containsString(" (1) [@NotNull "));
+  }
+
+  @Test
+  void shouldDescribeBoundedMismatchGroupedByPath() {
+    // given
+    Bean[] children = new Bean[12];
+    for (int i = 0; i < children.length; i++) {
+      children[i] = new Bean(null, null);
+    }
+    Matcher<Family> matcher = hasNoViolations();
+    Description description = new StringDescription();
+    // when
+    matcher.describeMismatch(new Family(children), description);
+    // then
+    assertThat(
+        description.toString(),
+        startsWith("violated 24 constraints: children[0].bar (1) [@NotNull \""));
+    assertThat(description.toString(), containsString("], children[0].foo (1) [@NotNull \""));
+    assertThat(description.toString(), endsWith("was null] and 14 more"));
+  }
+
+  private static void recordingSnapshots(Runnable assertion) {
+    System.setProperty(ConstraintSnapshotMatcher.RECORD_PROPERTY, "true");
+    try {
+      assertion.run();
+    } finally {
+      System.clearProperty(ConstraintSnapshotMatcher.RECORD_PROPERTY);
+    }
+  }
+
+  private static String violatedNotNullOnFoo() {
+    String message =
+        ValidatorFactoryHolder.getValidator()
+            .validateValue(Bean.class, "foo", null)
+            .iterator()
+            .next()
+            .getMessage();
+    return "violated 1 constraint: foo (1) [@NotNull \"" + message + "\" was null]";
+  }
+
+  @Test
+  void shouldMatchViolationByConstraintAnnotation() {
+    // then
+    assertThat(new Bean(null, 42), hasViolation(NotNull.class, "foo"));
+    assertThat(new Bean("foooo", 42), hasViolation(Length.class, "foo"));
+    assertThat(new Bean("foooo", 42), not(hasViolation(NotNull.class, "foo")));
+    assertThat(new Bean("foo", 43), hasViolation(Max.class));
+    assertThat(new Bean("foo", 43), not(hasViolation(Max.class, "foo")));
+    assertThat(new GroupedBean(null, "bar"), hasViolation(NotNull.class, "foo", OnCreate.class));
+    assertThat(
+        new Family(new Bean("foo", 42), new Bean(null, 42)),
+        hasViolation(NotNull.class, "children[*].foo"));
+  }
+
+  @Test
+  void shouldDescribeViolationByConstraintAnnotation() {
+    // given
+    Matcher<Bean> matcher = hasViolation(NotNull.class, "foo");
+    Description description = new StringDescription();
+    Description mismatch = new StringDescription();
+    Description valid = new StringDescription();
+    // when
+    matcher.describeTo(description);
+    matcher.describeMismatch(new Bean("foooo", 42), mismatch);
+    matcher.describeMismatch(new Bean("foo", 42), valid);
+    // then
+    assertThat(description.toString(), is("@NotNull constraint violation on field \"foo\""));
+    assertThat(
+        mismatch.toString(),
+        is("violated constraints [@Length] but not @NotNull on field \"foo\""));
+    assertThat(valid.toString(), is("was valid on field \"foo\""));
+  }
+
+  @Test
+  void shouldValidatePublishedItemsWithBoundedDemand() {
+    // given
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Bean("foo", 42));
+    }
+    ListPublisher<Bean> publisher = new ListPublisher<>(beans);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      // then
+      assertThat(publisher, publisherHasNoViolations().using(executor, 2));
+      assertThat(publisher.maxDemand, is(2L));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldSignalDemandSeriallyWhileValidatingConcurrently() {
+    // given
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      beans.add(new Bean("foo", 42));
+    }
+    ListPublisher<Bean> items = new ListPublisher<>(beans);
+    AtomicInteger signalling = new AtomicInteger();
+    AtomicBoolean overlapped = new AtomicBoolean();
+    Flow.Publisher<Bean> publisher =
+        subscriber ->
+            items.subscribe(
+                new Flow.Subscriber<Bean>() {
+                  @Override
+                  public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(
+                        new Flow.Subscription() {
+                          @Override
+                          public void request(long n) {
+                            if (signalling.incrementAndGet() > 1) {
+                              overlapped.set(true);
+                            }
+                            try {
+                              subscription.request(n);
+                            } finally {
+                              signalling.decrementAndGet();
+                            }
+                          }
+
+                          @Override
+                          public void cancel() {
+                            subscription.cancel();
+                          }
+                        });
+                  }
+
+                  @Override
+                  public void onNext(Bean item) {
+                    subscriber.onNext(item);
+                  }
+
+                  @Override
+                  public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                  }
+
+                  @Override
+                  public void onComplete() {
+                    subscriber.onComplete();
+                  }
+                });
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      // then
+      assertThat(publisher, publisherHasNoViolations().using(executor, 8));
+      assertThat(overlapped.get(), is(false));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldMatchPublishedItemsWithViolations() {
+    // given
+    ListPublisher<Bean> publisher =
+        new ListPublisher<>(asList(new Bean(null, 42), new Bean(null, 43)));
+    // then
+    assertThat(publisher, publisherHasViolations(NotNullValidator.class));
+    assertThat(publisher, publisherHasViolations("foo", NotNullValidator.class));
+    assertThat(publisher, not(publisherHasNoViolations("foo")));
+    assertThat(new ListPublisher<>(new ArrayList<Bean>()), publisherHasNoViolations());
+  }
+
+  @Test
+  void shouldDescribeMismatchOfPublishedItems() {
+    // given
+    Matcher<Flow.Publisher<?>> matcher = publisherHasNoViolations().using(Runnable::run, 1);
+    ListPublisher<Bean> publisher =
+        new ListPublisher<>(asList(new Bean("foo", 42), new Bean(null, 42)));
+    Description description = new StringDescription();
+    // when
+    boolean matched = matcher.matches(publisher);
+    matcher.describeMismatch(publisher, description);
+    // then
+    assertThat(matched, is(false));
+    assertThat(
+        description.toString(), is("1 of 2 items failed: item [1] " + violatedNotNullOnFoo()));
+  }
+
+  @Test
+  void shouldDescribeMismatchOfOneShotPublisherWithoutSubscribingAgain() {
+    // given
+    Matcher<Flow.Publisher<?>> matcher = publisherHasNoViolations().using(Runnable::run, 1);
+    AtomicBoolean subscribed = new AtomicBoolean();
+    ListPublisher<Bean> items = new ListPublisher<>(asList(new Bean(null, 42)));
+    Flow.Publisher<Bean> publisher =
+        subscriber -> {
+          if (subscribed.getAndSet(true)) {
+            throw new IllegalStateException("subscribed again");
+          }
+          items.subscribe(subscriber);
+        };
+    Description description = new StringDescription();
+    // when
+    boolean matched = matcher.matches(publisher);
+    matcher.describeMismatch(publisher, description);
+    // then
+    assertThat(matched, is(false));
+    assertThat(
+        description.toString(), is("1 of 1 items failed: item [0] " + violatedNotNullOnFoo()));
+  }
+
+  @Test
+  void shouldStopAtFirstFailureOfPublishedItemsFailingFast() {
+    // given
+    Matcher<Flow.Publisher<?>> matcher =
+        publisherHasNoViolations().failFast().using(Runnable::run, 1);
+    ListPublisher<Bean> publisher =
+        new ListPublisher<>(asList(new Bean(null, 42), new Bean(null, 42), new Bean("foo", 42)));
+    Description description = new StringDescription();
+    // when
+    matcher.matches(publisher);
+    matcher.describeMismatch(publisher, description);
+    // then
+    assertThat(
+        description.toString(),
+        is(
+            "1 of 1 items failed: item [0] "
+                + violatedNotNullOnFoo()
+                + " (stopped at first failure)"));
+  }
+
+  @Test
+  void shouldDescribeLowestFailingIndicesOfPublishedItemsInOrder() {
+    // given
+    List<Bean> beans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      beans.add(new Bean(null, 42));
+    }
+    ListPublisher<Bean> publisher = new ListPublisher<>(beans);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    Description description = new StringDescription();
+    try {
+      Matcher<Flow.Publisher<?>> matcher = publisherHasNoViolations().using(executor, 8);
+      // when
+      matcher.matches(publisher);
+      matcher.describeMismatch(publisher, description);
+    } finally {
+      executor.shutdownNow();
+    }
+    // then
+    String violation = violatedNotNullOnFoo();
+    StringBuilder expected = new StringBuilder("100 of 100 items failed: ");
+    for (int i = 0; i < 10; i++) {
+      expected.append(i == 0 ? "" : ", ").append("item [").append(i).append("] ").append(violation);
+    }
+    expected.append(" and 90 more");
+    assertThat(description.toString(), is(expected.toString()));
   }
 }
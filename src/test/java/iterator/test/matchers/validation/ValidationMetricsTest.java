@@ -0,0 +1,137 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasNotNullAnnotation;
+import static iterator.test.matchers.validation.ValidationMatchers.hasViolations;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.validation.constraints.NotNull;
+import org.hamcrest.Matcher;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationMetricsTest {
+
+  private static class Bean {
+
+    @NotNull private final String foo;
+
+    private Bean(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    ValidationMetrics.reset();
+    ValidationMetrics.enable();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ValidationMetrics.disable();
+    ValidationMetrics.reset();
+  }
+
+  @Test
+  void shouldNotBeAbleToInstantiateViaReflection() throws Exception {
+    Constructor<ValidationMetrics> constructor = ValidationMetrics.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    InvocationTargetException e =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void shouldCountValidationsAndViolationsPerBeanClass() {
+    // given
+    Bean valid = new Bean("foo");
+    Bean invalid = new Bean(null);
+    // when
+    assertThat(valid, hasNoViolations());
+    assertThat(invalid, hasViolations("foo", NotNullValidator.class));
+    // then
+    assertThat(ValidationMetrics.toCsv(), containsString(Bean.class.getName() + ",2,"));
+    assertThat(ValidationMetrics.toJson(), containsString("\"validations\":2,"));
+    assertThat(ValidationMetrics.toJson(), containsString("\"violations\":1,"));
+  }
+
+  @Test
+  void shouldCountAnnotationChecks() {
+    // when
+    assertThat(Bean.class, hasNotNullAnnotation("foo"));
+    // then
+    assertThat(ValidationMetrics.toJson(), containsString("\"annotationChecks\":1,"));
+  }
+
+  @Test
+  void shouldCheckWhetherEnabledWhenMatchingAnnotations() {
+    // given
+    ValidationMetrics.disable();
+    Matcher<Class<Bean>> matcher = hasNotNullAnnotation("foo");
+    ValidationMetrics.enable();
+    // when
+    assertThat(Bean.class, matcher);
+    ValidationMetrics.disable();
+    assertThat(Bean.class, matcher);
+    // then
+    assertThat(ValidationMetrics.toJson(), containsString("\"annotationChecks\":1,"));
+  }
+
+  @Test
+  void shouldNotRecordWhenDisabled() {
+    // given
+    ValidationMetrics.disable();
+    // when
+    assertThat(new Bean("foo"), hasNoViolations());
+    // then
+    assertThat(ValidationMetrics.toJson(), is("{\"beans\":[]}"));
+  }
+
+  @Test
+  void shouldWriteReportInFormatOfFileExtension(@TempDir Path dir) throws Exception {
+    // given
+    assertThat(new Bean("foo"), hasNoViolations());
+    Path csv = dir.resolve("metrics.csv");
+    Path json = dir.resolve("reports").resolve("metrics.json");
+    // when
+    ValidationMetrics.writeReport(csv);
+    ValidationMetrics.writeReport(json);
+    // then
+    assertThat(
+        new String(Files.readAllBytes(csv), StandardCharsets.UTF_8),
+        startsWith("type,validations,"));
+    assertThat(
+        new String(Files.readAllBytes(json), StandardCharsets.UTF_8),
+        not(startsWith("type,")));
+  }
+}
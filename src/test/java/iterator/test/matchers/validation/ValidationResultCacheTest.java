@@ -0,0 +1,234 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static iterator.test.matchers.validation.ValidationMatchers.hasNoViolations;
+import static iterator.test.matchers.validation.ValidationMatchers.hasViolations;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import javax.validation.constraints.NotNull;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ValidationResultCacheTest {
+
+  @ImmutableFixture
+  private static class Fixture {
+
+    @NotNull private final String foo;
+
+    @NotNull private final String bar;
+
+    private Fixture(String foo, String bar) {
+      this.foo = foo;
+      this.bar = bar;
+    }
+  }
+
+  private static class Bean {
+
+    @NotNull private String foo;
+
+    private Bean(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  private @interface Immutable {}
+
+  @Immutable
+  private static class Lookalike {
+
+    @NotNull private final String foo;
+
+    private Lookalike(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  private static class Registered {
+
+    @NotNull private final String foo;
+
+    private Registered(String foo) {
+      this.foo = foo;
+    }
+  }
+
+  private static class RegisteredSubclass extends Registered {
+
+    private RegisteredSubclass(String foo) {
+      super(foo);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    ValidationResultCache.disable();
+  }
+
+  @Test
+  void shouldNotBeAbleToInstantiateViaReflection() throws Exception {
+    Constructor<ValidationResultCache> constructor =
+        ValidationResultCache.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    InvocationTargetException e =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void shouldServeRepeatedValidationOfImmutableFixtureFromCache() {
+    // given
+    ValidationResultCache.enable(10);
+    Fixture fixture = new Fixture("foo", "bar");
+    // when
+    assertThat(fixture, hasNoViolations());
+    assertThat(fixture, hasNoViolations("bar"));
+    assertThat(fixture, not(hasViolations("foo", NotNullValidator.class)));
+    // then
+    assertThat(ValidationResultCache.missCount(), is(1L));
+    assertThat(ValidationResultCache.hitCount(), is(2L));
+    assertThat(ValidationResultCache.size(), is(1));
+  }
+
+  @Test
+  void shouldNotCacheViolationsOfImmutableFixture() {
+    // given
+    ValidationResultCache.enable(10);
+    Fixture fixture = new Fixture(null, "bar");
+    // when
+    assertThat(fixture, hasViolations("foo", NotNullValidator.class));
+    assertThat(fixture, hasNoViolations("bar"));
+    // then
+    assertThat(ValidationResultCache.missCount(), is(2L));
+    assertThat(ValidationResultCache.hitCount(), is(0L));
+    assertThat(ValidationResultCache.size(), is(0));
+  }
+
+  @Test
+  void shouldReleaseFixturesOnceUnreachable() throws Exception {
+    // given
+    ValidationResultCache.enable(10);
+    Fixture valid = new Fixture("foo", "bar");
+    Fixture violating = new Fixture(null, "bar");
+    assertThat(valid, hasNoViolations());
+    assertThat(violating, hasViolations("foo", NotNullValidator.class));
+    WeakReference<Fixture> releasedValid = new WeakReference<>(valid);
+    WeakReference<Fixture> releasedViolating = new WeakReference<>(violating);
+    valid = null;
+    violating = null;
+    // when
+    for (int i = 0; i < 50 && anyReachable(releasedValid, releasedViolating); i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    // then
+    assertThat(releasedValid.get(), is(nullValue()));
+    assertThat(releasedViolating.get(), is(nullValue()));
+  }
+
+  @Test
+  void shouldNotTreatOtherAnnotationsNamedImmutableAsMarked() {
+    // given
+    ValidationResultCache.enable(10);
+    Lookalike lookalike = new Lookalike("foo");
+    // when
+    assertThat(lookalike, hasNoViolations());
+    assertThat(lookalike, hasNoViolations());
+    // then
+    assertThat(ValidationResultCache.missCount(), is(0L));
+    assertThat(ValidationResultCache.size(), is(0));
+  }
+
+  @Test
+  void shouldCacheExplicitlyRegisteredTypes() {
+    // given
+    ValidationResultCache.enable(10);
+    Registered registered = new Registered("foo");
+    assertThat(ValidationResultCache.accepts(registered), is(false));
+    // when
+    ValidationResultCache.registerImmutable(Registered.class);
+    assertThat(registered, hasNoViolations());
+    assertThat(registered, hasNoViolations());
+    // then
+    assertThat(ValidationResultCache.missCount(), is(1L));
+    assertThat(ValidationResultCache.hitCount(), is(1L));
+    assertThat(ValidationResultCache.accepts(new RegisteredSubclass("foo")), is(false));
+  }
+
+  @Test
+  void shouldNotCacheUnmarkedTypesUnlessEnabledForAllInstances() {
+    // given
+    ValidationResultCache.enable(10);
+    Bean bean = new Bean(null);
+    // when
+    assertThat(bean, hasViolations("foo", NotNullValidator.class));
+    bean.foo = "foo";
+    // then
+    assertThat(bean, hasNoViolations());
+    assertThat(ValidationResultCache.missCount(), is(0L));
+    ValidationResultCache.enableForAllInstances(10);
+    assertThat(bean, hasNoViolations());
+    assertThat(bean, hasNoViolations());
+    assertThat(ValidationResultCache.hitCount(), is(1L));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedInstances() {
+    // given
+    ValidationResultCache.enable(2);
+    Fixture first = new Fixture("foo", "bar");
+    Fixture second = new Fixture("foo", "bar");
+    Fixture third = new Fixture("foo", "bar");
+    // when
+    assertThat(first, hasNoViolations());
+    assertThat(second, hasNoViolations());
+    assertThat(first, hasNoViolations());
+    assertThat(third, hasNoViolations());
+    assertThat(first, hasNoViolations());
+    // then
+    assertThat(ValidationResultCache.evictionCount(), is(1L));
+    assertThat(ValidationResultCache.hitCount(), is(2L));
+    assertThat(ValidationResultCache.size(), is(2));
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaximumSize() {
+    assertThrows(IllegalArgumentException.class, () -> ValidationResultCache.enable(0));
+  }
+
+  private static boolean anyReachable(WeakReference<?>... references) {
+    for (WeakReference<?> reference : references) {
+      if (reference.get() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ValidatorFactoryHolderTest {
+
+  private interface Other {}
+
+  private static class Bean {
+
+    @NotNull private final String foo;
+
+    @NotNull private final String bar;
+
+    private Bean(String foo, String bar) {
+      this.foo = foo;
+      this.bar = bar;
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    ValidatorFactoryHolder.setValidatorFactory(null);
+  }
+
+  @Test
+  void shouldNotBeAbleToInstantiateViaReflection() throws Exception {
+    Constructor<ValidatorFactoryHolder> constructor =
+        ValidatorFactoryHolder.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    InvocationTargetException e =
+        assertThrows(InvocationTargetException.class, constructor::newInstance);
+    assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void shouldShareDefaultValidator() {
+    // given
+    Validator validator = ValidatorFactoryHolder.getValidator();
+    // when
+    Validator other = ValidatorFactoryHolder.getValidator();
+    // then
+    assertThat(other, sameInstance(validator));
+  }
+
+  @Test
+  void shouldStopAtFirstViolationWithFailFastValidator() {
+    // given
+    Bean bean = new Bean(null, null);
+    // when
+    int violations = ValidatorFactoryHolder.getFailFastValidator().validate(bean).size();
+    // then
+    assertThat(violations, is(1));
+    assertThat(ValidatorFactoryHolder.getValidator().validate(bean).size(), is(2));
+  }
+
+  @Test
+  void shouldCacheConstraintMetadataPerClass() {
+    // given
+    ConstraintMetadata metadata = ValidatorFactoryHolder.getConstraintMetadata(Bean.class);
+    // when
+    ConstraintMetadata other = ValidatorFactoryHolder.getConstraintMetadata(Bean.class);
+    // then
+    assertThat(other, sameInstance(metadata));
+    ConstraintMetadata.Groups defaultGroup = metadata.forGroups(emptyList());
+    assertThat(defaultGroup.isConstrained(), is(true));
+    assertThat(defaultGroup.isConstrained("foo"), is(true));
+    assertThat(defaultGroup.isConstrained("baz"), is(false));
+    assertThat(defaultGroup.hasClassLevelConstraints(), is(false));
+  }
+
+  @Test
+  void shouldCacheConstraintMetadataPerGroups() {
+    // given
+    ConstraintMetadata metadata = ValidatorFactoryHolder.getConstraintMetadata(Bean.class);
+    // when
+    ConstraintMetadata.Groups groups = metadata.forGroups(singletonList(Other.class));
+    // then
+    assertThat(metadata.forGroups(singletonList(Other.class)), sameInstance(groups));
+    assertThat(groups.isConstrained(), is(false));
+    assertThat(groups.isConstrained("foo"), is(false));
+  }
+
+  @Test
+  void shouldCacheConstraintMetadataPerConstructor() throws Exception {
+    // given
+    ConstraintMetadata metadata = ValidatorFactoryHolder.getConstraintMetadata(Bean.class);
+    Constructor<Bean> constructor = Bean.class.getDeclaredConstructor(String.class, String.class);
+    // when
+    ConstraintMetadata.Executable executable = metadata.forConstructor(constructor);
+    // then
+    assertThat(metadata.forConstructor(constructor), sameInstance(executable));
+    assertThat(executable.hasConstrainedParameters(), is(false));
+    assertThat(executable.hasConstrainedReturnValue(), is(false));
+  }
+
+  @Test
+  void shouldUseSuppliedValidatorFactory() {
+    // given
+    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+    // when
+    ValidatorFactoryHolder.setValidatorFactory(factory);
+    // then
+    assertThat(ValidatorFactoryHolder.getValidatorFactory(), sameInstance(factory));
+    factory.close();
+  }
+
+  @Test
+  void shouldBootstrapNewFactoryAfterClose() {
+    // given
+    ValidatorFactory factory = ValidatorFactoryHolder.getValidatorFactory();
+    // when
+    ValidatorFactoryHolder.close();
+    // then
+    assertThat(ValidatorFactoryHolder.getValidatorFactory(), is(not(sameInstance(factory))));
+  }
+
+  @Test
+  void shouldNotCloseSuppliedValidatorFactory() {
+    // given
+    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+    AtomicBoolean closed = new AtomicBoolean();
+    ValidatorFactory supplied =
+        (ValidatorFactory)
+            Proxy.newProxyInstance(
+                ValidatorFactory.class.getClassLoader(),
+                new Class<?>[] {ValidatorFactory.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("close")) {
+                    closed.set(true);
+                  }
+                  return method.invoke(factory, args);
+                });
+    ValidatorFactoryHolder.setValidatorFactory(supplied);
+    // when
+    ValidatorFactoryHolder.close();
+    // then
+    assertThat(closed.get(), is(false));
+    assertThat(ValidatorFactoryHolder.getValidatorFactory(), is(not(sameInstance(supplied))));
+    factory.close();
+  }
+}
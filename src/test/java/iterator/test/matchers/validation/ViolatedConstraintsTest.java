@@ -0,0 +1,122 @@
+/**
+ * Copyright © 2016 Iterator Ltd. (iteratoruk@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package iterator.test.matchers.validation;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.junit.jupiter.api.Test;
+
+class ViolatedConstraintsTest {
+
+  private static class Child {
+
+    @NotNull private final String name;
+
+    private Child(String name) {
+      this.name = name;
+    }
+  }
+
+  private static class Parent {
+
+    @NotNull private final String name;
+
+    @Valid private final Child child;
+
+    @Valid private final List<Child> children;
+
+    private Parent(String name, Child child, List<Child> children) {
+      this.name = name;
+      this.child = child;
+      this.children = children;
+    }
+  }
+
+  private final Set<ConstraintViolation<Parent>> violations =
+      ValidatorFactoryHolder.getValidator()
+          .validate(new Parent(null, new Child(null), asList(new Child("foo"), new Child(null))));
+
+  @Test
+  void shouldAcceptOnlyViolationsOfNamedProperty() {
+    // when
+    ViolatedConstraints constraints = new ViolatedConstraints(violations, "name");
+    // then
+    assertThat(constraints.size(), is(1));
+    assertThat(constraints.contains(NotNullValidator.class), is(true));
+    assertThat(constraints.containsConstraint(NotNull.class), is(true));
+    assertThat(constraints.violations().size(), is(1));
+    assertThat(constraints.violations().get(0).getPropertyPath().toString(), is("name"));
+  }
+
+  @Test
+  void shouldNotAcceptMultiNodePathForNamedProperty() {
+    // when
+    ViolatedConstraints constraints = new ViolatedConstraints(violations, "child");
+    // then
+    assertThat(constraints.isEmpty(), is(true));
+    assertThat(constraints.contains(NotNullValidator.class), is(false));
+    assertThat(constraints.containsConstraint(NotNull.class), is(false));
+    assertThat(constraints.violations().isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldAcceptEveryViolationWithoutProperty() {
+    // when
+    ViolatedConstraints constraints = new ViolatedConstraints(violations, (String) null);
+    // then
+    assertThat(constraints.size(), is(3));
+    assertThat(constraints.violations().size(), is(3));
+    assertThat(constraints.containsConstraint(NotNull.class), is(true));
+    assertThat(constraints.containsConstraint(Size.class), is(false));
+  }
+
+  @Test
+  void shouldMatchMultiNodePathWithPattern() {
+    // when
+    ViolatedConstraints constraints =
+        new ViolatedConstraints(violations, PathPattern.compile("children[*].name"));
+    // then
+    assertThat(constraints.size(), is(1));
+    assertThat(constraints.containsConstraint(NotNull.class), is(true));
+    assertThat(constraints.violations().size(), is(1));
+    assertThat(
+        constraints.violations().get(0).getPropertyPath().toString(), is("children[1].name"));
+  }
+
+  @Test
+  void shouldBuildIndexOnceOverEveryViolation() {
+    // given
+    ViolatedConstraints constraints = new ViolatedConstraints(violations, "name");
+    // when
+    ViolationIndex index = constraints.index();
+    // then
+    assertThat(constraints.index(), sameInstance(index));
+    assertThat(index.all().size(), is(3));
+    assertThat(index.matching(PathPattern.compile("child.name")).size(), is(1));
+    assertThat(index.matching(PathPattern.compile("children[0].name")).isEmpty(), is(true));
+    assertThat(index.matching(PathPattern.compile("children[1].name")).size(), is(1));
+  }
+}